@@ -0,0 +1,184 @@
+package org.example.expert.benchmark;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 벤치마크 공용 픽스처
+ * 스프링 컨텍스트 없이 빈을 직접 생성하여 측정 대상 코드만 실행되도록 한다.
+ **/
+final class BenchmarkFixtures {
+
+    // 벤치마크 전용 HS256 키 (32 bytes)
+    static final String SECRET_KEY = "YmVuY2htYXJrLW9ubHktc2VjcmV0LWtleS0zMmJ5dGVzIQ==";
+
+    // 왕복 지연을 더하는 JDBC 문장 실행 메서드
+    private static final Set<String> ROUND_TRIP_METHODS = Set.of("executeQuery", "executeUpdate", "executeBatch", "execute");
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenTtl", Duration.ofDays(14));
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    /**
+     * 인메모리 H2 데이터베이스 db 에 스키마를 만들고 SessionFactory 를 구성
+     * jmh 실행 jar 에서는 스프링 부트 자동 설정 파일이 합쳐지지 않으므로
+     * 애플리케이션과 같은 엔티티, 명명 규칙, 배치 설정(PersistenceConfig)으로 Hibernate 만 직접 구성한다.
+     * H2 는 테이블이 바뀌지 않으면 같은 문장의 이전 결과를 재사용하므로 QUERY_CACHE_SIZE=0 으로 매번 실행되게 한다.
+     **/
+    static SessionFactory sessionFactory(String db, int batchSize) {
+        return configuration(batchSize)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, h2Url(db))
+                .buildSessionFactory();
+    }
+
+    // 커넥션 풀 등 직접 만든 DataSource 를 사용 (h2Url 로 연결)
+    static SessionFactory sessionFactory(DataSource dataSource, int batchSize) {
+        Configuration configuration = configuration(batchSize);
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        return configuration.buildSessionFactory();
+    }
+
+    static String h2Url(String db) {
+        return "jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0";
+    }
+
+    // 애플리케이션과 같은 HikariCP 커넥션 풀 (h2Url 로 연결)
+    static HikariDataSource hikariDataSource(String db) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName("org.h2.Driver"); // jmh jar 에서는 드라이버 자동 등록 파일이 합쳐지지 않음
+        dataSource.setJdbcUrl(h2Url(db));
+        return dataSource;
+    }
+
+    /**
+     * 커넥션 풀에서 꺼낸 커넥션의 문장 실행과 커밋마다 roundTripMillis 만큼 대기하는 DataSource
+     * 인메모리 H2 에는 네트워크 왕복이 없으므로 원격 DB 의 왕복 지연을 흉내 낸다. (0 이면 지연 없음)
+     **/
+    static DataSource withRoundTrip(DataSource dataSource, long roundTripMillis) {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return "getConnection".equals(method.getName())
+                    ? withRoundTrip((Connection) result, roundTripMillis) : result;
+        });
+    }
+
+    private static Connection withRoundTrip(Connection connection, long roundTripMillis) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if ("commit".equals(method.getName())) {
+                roundTrip(roundTripMillis);
+            }
+            Object result = invoke(connection, method, args);
+            return "prepareStatement".equals(method.getName())
+                    ? withRoundTrip((PreparedStatement) result, roundTripMillis) : result;
+        });
+    }
+
+    private static PreparedStatement withRoundTrip(PreparedStatement statement, long roundTripMillis) {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if (ROUND_TRIP_METHODS.contains(method.getName())) {
+                roundTrip(roundTripMillis);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static void roundTrip(long roundTripMillis) {
+        if (roundTripMillis > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(roundTripMillis));
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Configuration configuration(int batchSize) {
+        return new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Todo.class)
+                .addAnnotatedClass(Manager.class)
+                .addAnnotatedClass(Comment.class)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy()) // 스프링 부트 기본 명명 규칙
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.ORDER_UPDATES, "true");
+    }
+
+    // 애플리케이션의 JpaTransactionManager 와 같이 트랜잭션마다 EntityManager 를 스레드에 바인딩
+    static JpaTransactionManager transactionManager(SessionFactory sessionFactory) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(sessionFactory);
+        transactionManager.setJpaDialect(new HibernateJpaDialect()); // readOnly 트랜잭션은 flush 생략
+        return transactionManager;
+    }
+
+    // 레포지토리 구현 클래스에 주입되는 JPAQueryFactory 와 같이 현재 트랜잭션의 EntityManager 를 사용
+    static JPAQueryFactory queryFactory(SessionFactory sessionFactory) {
+        return new JPAQueryFactory(SharedEntityManagerCreator.createSharedEntityManager(sessionFactory));
+    }
+
+    // 애플리케이션의 스프링 데이터 JPA 레포지토리와 같이 SimpleJpaRepository 의 @Transactional(save 등)이 적용된 프록시
+    static <T> T repository(SessionFactory sessionFactory, PlatformTransactionManager transactionManager,
+                            Class<T> repositoryInterface, Object... fragments) {
+        JpaRepositoryFactory factory =
+                new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(sessionFactory));
+        TransactionInterceptor transactionInterceptor =
+                new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource());
+        factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                proxyFactory.addAdvice(transactionInterceptor));
+        return factory.getRepository(repositoryInterface, RepositoryFragments.just(fragments));
+    }
+
+    // 서비스의 @Transactional(readOnly = true)
+    static TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.expert.benchmark;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.anything;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoRepositoryQueryImpl;
+import org.example.expert.domain.todo.search.TodoTextIndex;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * todo 대량 저장 처리량: POST /todos 반복 호출과 POST /todos/batch 한 번 비교
+ * saveTodoEach 는 TodoService.saveTodo 를 건마다 호출 (날씨 조회 + save() 트랜잭션 하나, 작성자 manager cascade 저장)
+ * saveTodos 는 TodoBatchService.saveTodos 로 항목 검증, 날씨 한 번 조회, 청크(500 건)별 트랜잭션의 JDBC 배치 저장
+ * 두 방식 모두 스프링 데이터 JPA TodoRepository, HikariCP 커넥션 풀, PersistenceConfig 배치 설정(50)으로 실행하고,
+ * 날씨 API 는 MockRestServiceServer 로 응답하여 WeatherClient 의 메모리 캐시를 그대로 사용한다.
+ * roundTripMillis 는 JDBC 문장 실행, 커밋마다 더하는 원격 DB 왕복 지연 (0 은 인메모리 H2 의 순수 실행 비용)
+ * 결과 단위는 저장한 todo 행 수/초
+ **/
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    @Param({"0", "1"})
+    public long roundTripMillis;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private ValidatorFactory validatorFactory;
+    private WeatherClient weatherClient;
+    private TodoService todoService;
+    private TodoBatchService todoBatchService;
+    private AuthUser authUser;
+    private List<TodoSaveRequest> requests;
+
+    @Setup
+    public void setUp() {
+        dataSource = BenchmarkFixtures.hikariDataSource("bulk-insert");
+        sessionFactory = BenchmarkFixtures.sessionFactory(
+                BenchmarkFixtures.withRoundTrip(dataSource, roundTripMillis), 50);
+        JpaTransactionManager transactionManager = BenchmarkFixtures.transactionManager(sessionFactory);
+        TodoRepository todoRepository = BenchmarkFixtures.repository(sessionFactory, transactionManager,
+                TodoRepository.class,
+                new TodoRepositoryQueryImpl(BenchmarkFixtures.queryFactory(sessionFactory), null, new TodoTextIndex(false)));
+
+        // 애플리케이션 기본값: weather.client.connect-timeout=2s, read-timeout=3s, weather.cache.max-age=24h
+        weatherClient = new WeatherClient(new RestTemplateBuilder(),
+                Duration.ofSeconds(2), Duration.ofSeconds(3), Duration.ofHours(24));
+        stubWeatherApi(weatherClient);
+
+        // 애플리케이션 기본값: todo.owner-cache.max-size=10000, ttl=30s, todo.batch.chunk-size=500
+        todoService = new TodoService(todoRepository, weatherClient,
+                new TodoOwnerCache(todoRepository, 10_000, Duration.ofSeconds(30)));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        todoBatchService = new TodoBatchService(todoRepository, weatherClient,
+                new TransactionTemplate(transactionManager), validatorFactory.getValidator(), false, 500);
+
+        User user = new User("bulk@example.com", "password", "bulk", UserRole.ROLE_USER);
+        sessionFactory.inTransaction(session -> session.persist(user));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
+
+        requests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            requests.add(new TodoSaveRequest("title-" + i, "contents"));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("DELETE FROM Manager").executeUpdate();
+            session.createMutationQuery("DELETE FROM Todo").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        weatherClient.shutdown();
+        validatorFactory.close();
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    // POST /todos 반복 호출: todo 마다 날씨 조회와 트랜잭션 하나
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveTodoEach(Blackhole blackhole) {
+        for (TodoSaveRequest request : requests) {
+            blackhole.consume(todoService.saveTodo(authUser, request));
+        }
+    }
+
+    // POST /todos/batch: 같은 항목을 한 요청으로 저장
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public TodoBatchSaveResponse saveTodos() {
+        return todoBatchService.saveTodos(authUser, new TodoBatchSaveRequest(requests));
+    }
+
+    // 날씨 API(WeatherClient 가 호출하는 유일한 주소) 응답: 오늘, 내일 날짜의 날씨 (측정 중 날짜가 바뀌어도 조회 가능)
+    private static void stubWeatherApi(WeatherClient weatherClient) {
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(weatherClient, "restTemplate");
+        LocalDate today = LocalDate.now();
+        String body = "[{\"date\":\"" + today.format(DATE_FORMATTER) + "\",\"weather\":\"Sunny\"},"
+                + "{\"date\":\"" + today.plusDays(1).format(DATE_FORMATTER) + "\",\"weather\":\"Sunny\"}]";
+        MockRestServiceServer.bindTo(restTemplate).build()
+                .expect(ExpectedCount.manyTimes(), anything())
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.config.JwtAuthenticationCache;
+import org.example.expert.config.JwtAuthenticationFilter;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.TokenRevocationRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증된 요청 한 건이 JwtAuthenticationFilter 를 통과하는 비용
+ * cachedToken 은 검증 캐시 히트, uncachedToken 은 매 호출마다 빈 캐시로 서명 검증까지 수행한다.
+ **/
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    // DB 로딩 없이 빈 폐기 목록으로 사용
+    private final TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(null);
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        cachedFilter = new JwtAuthenticationFilter(jwtUtil, new JwtAuthenticationCache(10_000), tokenRevocationRegistry, objectMapper);
+
+        request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.ROLE_USER, 0L));
+        response = new MockHttpServletResponse();
+    }
+
+    // 캐시 생성 비용은 측정에서 제외
+    @Setup(Level.Invocation)
+    public void newUncachedFilter() {
+        uncachedFilter = new JwtAuthenticationFilter(jwtUtil, new JwtAuthenticationCache(10_000), tokenRevocationRegistry, objectMapper);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws Exception {
+        cachedFilter.doFilter(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication uncachedToken() throws Exception {
+        uncachedFilter.doFilter(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
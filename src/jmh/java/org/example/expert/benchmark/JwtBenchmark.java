@@ -0,0 +1,45 @@
+package org.example.expert.benchmark;
+
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JwtUtil 토큰 발급 / 검증 벤치마크
+ **/
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        bearerToken = jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.ROLE_USER, 0L);
+    }
+
+    // 로그인 / 회원가입 응답의 토큰 발급
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.ROLE_USER, 0L);
+    }
+
+    // 필터의 캐시 미스 경로: Bearer 제거 + 서명 검증 + claim 파싱
+    @Benchmark
+    public Claims verifyToken() {
+        return jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("ROLE_USER");
+    }
+}
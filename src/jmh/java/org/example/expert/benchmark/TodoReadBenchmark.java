@@ -0,0 +1,234 @@
+package org.example.expert.benchmark;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepositoryQueryImpl;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepositoryQueryImpl;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepositoryQueryImpl;
+import org.example.expert.domain.todo.search.TodoTextIndex;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 목록 조회 지연 시간과 op 당 할당량 (-prof gc 의 gc.alloc.rate.norm)
+ * *Entities 는 fetch join 으로 엔티티를 영속성 컨텍스트에 올린 뒤 응답 DTO 로 변환하던 기존 방식,
+ * *Projection 은 서비스가 호출하는 TodoRepositoryQueryImpl, CommentRepositoryQueryImpl, ManagerRepositoryQueryImpl 의
+ * 생성자 프로젝션 메서드를 그대로 호출하는 현재 방식
+ * 두 방식 모두 서비스의 @Transactional(readOnly = true) 와 같은 읽기 전용 트랜잭션에서 실행한다.
+ * 데이터: todo 1000 건(작성자가 담당자), 첫 todo 에 댓글 1000 건과 담당자 200 명
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoReadBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int MANAGERS = 200;
+    private static final int BATCH_TODO_IDS = 100;
+    private static final Pageable PAGEABLE = PageRequest.of(0, ROWS);
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private TodoRepositoryQueryImpl todoRepositoryQuery;
+    private CommentRepositoryQueryImpl commentRepositoryQuery;
+    private ManagerRepositoryQueryImpl managerRepositoryQuery;
+    private Long todoId;
+    private List<Long> batchTodoIds;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = BenchmarkFixtures.sessionFactory("todo-read", 50);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        readOnlyTransactionTemplate = BenchmarkFixtures.readOnlyTransactionTemplate(
+                BenchmarkFixtures.transactionManager(sessionFactory));
+
+        // todo.search.parallel-count.enabled 기본값(false)으로는 병렬 쿼리 실행기를 사용하지 않음
+        todoRepositoryQuery = new TodoRepositoryQueryImpl(
+                BenchmarkFixtures.queryFactory(sessionFactory), null, new TodoTextIndex(false));
+        commentRepositoryQuery = new CommentRepositoryQueryImpl(BenchmarkFixtures.queryFactory(sessionFactory));
+        managerRepositoryQuery = new ManagerRepositoryQueryImpl(BenchmarkFixtures.queryFactory(sessionFactory));
+
+        batchTodoIds = new ArrayList<>(BATCH_TODO_IDS);
+        sessionFactory.inTransaction(session -> {
+            User writer = new User("read@example.com", "password", "read", UserRole.ROLE_USER);
+            session.persist(writer);
+            Todo first = null;
+            for (int i = 0; i < ROWS; i++) {
+                // Todo 생성자가 작성자를 담당자로 추가하고 cascade 로 함께 저장
+                Todo saved = new Todo("title-" + i, "contents-" + i, "Sunny", writer);
+                session.persist(saved);
+                if (first == null) {
+                    first = saved;
+                }
+                if (batchTodoIds.size() < BATCH_TODO_IDS) {
+                    batchTodoIds.add(saved.getId());
+                }
+            }
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new Comment("comment-" + i, writer, first));
+            }
+            for (int i = 1; i < MANAGERS; i++) {
+                User managerUser = new User("read" + i + "@example.com", "password", "read" + i, UserRole.ROLE_USER);
+                session.persist(managerUser);
+                session.persist(new Manager(managerUser, first));
+            }
+            todoId = first.getId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // 기존 GET /todos: fetch join 후 TodoResponse 로 변환, 스프링 데이터 Page 와 같이 count 쿼리
+    @Benchmark
+    public Page<TodoResponse> todoPageEntities() {
+        return readOnlyTransactionTemplate.execute(status -> {
+            List<Todo> todos = entityManager.createQuery(
+                            "SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC", Todo.class)
+                    .setFirstResult((int) PAGEABLE.getOffset())
+                    .setMaxResults(PAGEABLE.getPageSize())
+                    .getResultList();
+
+            List<TodoResponse> responses = new ArrayList<>(todos.size());
+            for (Todo entity : todos) {
+                responses.add(new TodoResponse(
+                        entity.getId(),
+                        entity.getTitle(),
+                        entity.getContents(),
+                        entity.getWeather(),
+                        new UserResponse(entity.getUser().getId(), entity.getUser().getEmail()),
+                        entity.getCreatedAt(),
+                        entity.getModifiedAt()
+                ));
+            }
+            Long count = entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+            return new PageImpl<>(responses, PAGEABLE, count);
+        });
+    }
+
+    // GET /todos: TodoService.getTodos 가 호출하는 findByConditions (목록 + count)
+    @Benchmark
+    public Page<TodoResponse> todoPageProjection() {
+        return readOnlyTransactionTemplate.execute(status ->
+                todoRepositoryQuery.findByConditions(null, null, null, PAGEABLE));
+    }
+
+    // GET /todos?cursor= 첫 페이지: TodoService.getTodosByCursor 가 호출하는 findByConditionsAfterCursor (count 없음)
+    @Benchmark
+    public List<TodoResponse> todoCursorProjection() {
+        return readOnlyTransactionTemplate.execute(status ->
+                todoRepositoryQuery.findByConditionsAfterCursor(null, null, null, null, ROWS));
+    }
+
+    // 기존 GET /todos/{todoId}/comments: fetch join 후 CommentResponse 로 변환
+    @Benchmark
+    public List<CommentResponse> commentListEntities() {
+        return readOnlyTransactionTemplate.execute(status -> {
+            List<Comment> comments = entityManager.createQuery(
+                            "SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                    .setParameter("todoId", todoId)
+                    .getResultList();
+
+            List<CommentResponse> responses = new ArrayList<>(comments.size());
+            for (Comment entity : comments) {
+                responses.add(new CommentResponse(
+                        entity.getId(),
+                        entity.getContents(),
+                        new UserResponse(entity.getUser().getId(), entity.getUser().getEmail())
+                ));
+            }
+            return responses;
+        });
+    }
+
+    // GET /todos/{todoId}/comments: CommentService.getComments 가 호출하는 findComments
+    @Benchmark
+    public List<CommentResponse> commentListProjection() {
+        return readOnlyTransactionTemplate.execute(status -> commentRepositoryQuery.findComments(todoId));
+    }
+
+    // 기존 GET /todos/{todoId}/managers: fetch join 후 ManagerResponse 로 변환
+    @Benchmark
+    public List<ManagerResponse> managerListEntities() {
+        return readOnlyTransactionTemplate.execute(status -> toManagerResponses(entityManager.createQuery(
+                        "SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId ORDER BY m.id", Manager.class)
+                .setParameter("todoId", todoId)
+                .getResultList()));
+    }
+
+    // GET /todos/{todoId}/managers: ManagerService.getManagers 가 호출하는 findManagers
+    @Benchmark
+    public List<ManagerResponse> managerListProjection() {
+        return readOnlyTransactionTemplate.execute(status -> managerRepositoryQuery.findManagers(todoId));
+    }
+
+    // 기존 방식의 GET /todos/managers?todoIds=: fetch join IN 조회 후 todo id 별로 묶어 ManagerResponse 로 변환
+    @Benchmark
+    public Map<Long, List<ManagerResponse>> managerBatchEntities() {
+        return readOnlyTransactionTemplate.execute(status -> {
+            List<Manager> managers = entityManager.createQuery(
+                            "SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id IN :todoIds ORDER BY m.todo.id, m.id",
+                            Manager.class)
+                    .setParameter("todoIds", batchTodoIds)
+                    .getResultList();
+
+            Map<Long, List<ManagerResponse>> managersByTodoId = new LinkedHashMap<>();
+            for (Manager entity : managers) {
+                managersByTodoId.computeIfAbsent(entity.getTodo().getId(), id -> new ArrayList<>())
+                        .add(toManagerResponse(entity));
+            }
+            return managersByTodoId;
+        });
+    }
+
+    // GET /todos/managers?todoIds=: ManagerService.getManagers(todoIds) 가 호출하는 findManagersGroupByTodoId
+    @Benchmark
+    public Map<Long, List<ManagerResponse>> managerBatchProjection() {
+        return readOnlyTransactionTemplate.execute(status ->
+                managerRepositoryQuery.findManagersGroupByTodoId(batchTodoIds));
+    }
+
+    private static List<ManagerResponse> toManagerResponses(List<Manager> managers) {
+        List<ManagerResponse> responses = new ArrayList<>(managers.size());
+        for (Manager entity : managers) {
+            responses.add(toManagerResponse(entity));
+        }
+        return responses;
+    }
+
+    private static ManagerResponse toManagerResponse(Manager entity) {
+        return new ManagerResponse(
+                entity.getId(),
+                new UserResponse(entity.getUser().getId(), entity.getUser().getEmail())
+        );
+    }
+}
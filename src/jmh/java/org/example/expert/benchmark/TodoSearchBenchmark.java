@@ -0,0 +1,204 @@
+package org.example.expert.benchmark;
+
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.manager.entity.QManager.manager;
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.response.QTodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepositoryQueryImpl;
+import org.example.expert.domain.todo.search.TodoTextDocument;
+import org.example.expert.domain.todo.search.TodoTextIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * GET /todos/search 첫 페이지(10 건) 조회 지연 시간
+ * searchCartesianJoin 은 managers, comments 를 함께 left join 한 뒤 countDistinct 로 집계하던 기존 searchTodos,
+ * searchDenormalized 는 todo 행의 담당자 수, 댓글 수 카운터를 읽는 현재 TodoRepositoryQueryImpl.searchTodos
+ * 두 방식 모두 같은 검색 조건(제목, 담당자 닉네임)과 목록 + count 쿼리로 실행하며,
+ * 현재 방식의 count 캐시는 매 호출 비워 캐시 미스(처음 조회하는 검색 조건)를 측정한다.
+ * 댓글 수가 치우친 데이터: 최신 todo 일수록 담당자와 댓글이 많고, 가장 최신 todo 는 담당자 50 명, 댓글 2000 건
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoSearchBenchmark {
+
+    private static final int TODOS = 500;
+    private static final int USERS = 50;
+    private static final int HOT_TODOS = 20;
+    private static final int MAX_COMMENTS = 2_000;
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    // 최신 todo(title-499 ~ title-400)와 일부 이전 todo 가 일치
+    private static final String TITLE = "title-4";
+
+    @Param({"", "search1"})
+    public String nickname;
+
+    private SessionFactory sessionFactory;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private JPAQueryFactory queryFactory;
+    private TodoRepositoryQueryImpl todoRepositoryQuery;
+    private Cache<?, ?> countCache;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = BenchmarkFixtures.sessionFactory("todo-search", 50);
+        readOnlyTransactionTemplate = BenchmarkFixtures.readOnlyTransactionTemplate(
+                BenchmarkFixtures.transactionManager(sessionFactory));
+        queryFactory = BenchmarkFixtures.queryFactory(sessionFactory);
+
+        sessionFactory.inTransaction(session -> {
+            List<User> users = new ArrayList<>(USERS);
+            for (int i = 0; i < USERS; i++) {
+                User saved = new User("search" + i + "@example.com", "password", "search" + i, UserRole.ROLE_USER);
+                session.persist(saved);
+                users.add(saved);
+            }
+
+            for (int i = 0; i < TODOS; i++) {
+                User writer = users.get(i % USERS);
+                Todo saved = new Todo("title-" + i, "contents-" + i, "Sunny", writer);
+                session.persist(saved);
+
+                // id 가 클수록(첫 페이지에 가까울수록) 담당자와 댓글이 많음, 댓글 수는 순위에 반비례
+                int rank = TODOS - 1 - i;
+                int managerCount = rank < 5 ? USERS : 1;
+                for (int m = 0; m < managerCount; m++) {
+                    User managerUser = users.get(m);
+                    if (managerUser != writer) {
+                        session.persist(new Manager(managerUser, saved));
+                    }
+                }
+                int commentCount = rank < HOT_TODOS ? MAX_COMMENTS / (rank + 1) : 2;
+                for (int c = 0; c < commentCount; c++) {
+                    session.persist(new Comment("comment-" + c, users.get(c % USERS), saved));
+                }
+
+                if (i % 50 == 0) {
+                    session.flush();
+                    session.clear();
+                    users.replaceAll(u -> session.getReference(User.class, u.getId()));
+                }
+            }
+            session.flush();
+
+            // 스프링 없이 저장하면 JPA Auditing 이 동작하지 않으므로 생성 시각을 id 순서로 채움
+            session.createNativeMutationQuery(
+                            "UPDATE todos SET created_at = DATEADD(SECOND, id, TIMESTAMP '2024-01-01 00:00:00'), "
+                                    + "modified_at = DATEADD(SECOND, id, TIMESTAMP '2024-01-01 00:00:00')")
+                    .executeUpdate();
+            session.createNativeMutationQuery("UPDATE managers SET created_at = TIMESTAMP '2024-01-01 00:00:00'")
+                    .executeUpdate();
+            // 서비스가 저장 시 증가시키는 카운터를 TodoCountReconcileService 와 같은 쿼리로 채움
+            session.createMutationQuery("UPDATE Todo t "
+                            + "SET t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id), "
+                            + "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id)")
+                    .executeUpdate();
+        });
+
+        TodoTextIndex todoTextIndex = new TodoTextIndex(true);
+        // todo.search.parallel-count.enabled 기본값(false)으로는 병렬 쿼리 실행기를 사용하지 않음
+        todoRepositoryQuery = new TodoRepositoryQueryImpl(queryFactory, null, todoTextIndex);
+        countCache = (Cache<?, ?>) ReflectionTestUtils.getField(todoRepositoryQuery, "countCache");
+        buildIndex(todoTextIndex);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // 기존 searchTodos: managers x comments 카테시안 곱을 만든 뒤 todo 별 countDistinct
+    @Benchmark
+    public Page<TodoSearchResponse> searchCartesianJoin() {
+        return readOnlyTransactionTemplate.execute(status -> {
+            List<TodoSearchResponse> results = queryFactory
+                    .select(new QTodoSearchResponse(
+                            todo.title,
+                            manager.id.countDistinct(),
+                            comment.id.countDistinct()
+                    ))
+                    .from(todo)
+                    .leftJoin(todo.managers, manager)
+                    .leftJoin(todo.comments, comment)
+                    .where(
+                            todo.title.containsIgnoreCase(TITLE),
+                            managerNicknameContains()
+                    )
+                    .groupBy(todo.id, todo.title, todo.createdAt)
+                    .orderBy(todo.createdAt.desc())
+                    .offset(PAGEABLE.getOffset())
+                    .limit(PAGEABLE.getPageSize())
+                    .fetch();
+
+            Long count = queryFactory
+                    .select(todo.id.countDistinct())
+                    .from(todo)
+                    .leftJoin(todo.managers, manager)
+                    .where(
+                            todo.title.containsIgnoreCase(TITLE),
+                            managerNicknameContains()
+                    )
+                    .fetchOne();
+
+            return new PageImpl<>(results, PAGEABLE, count == null ? 0L : count);
+        });
+    }
+
+    // 현재 searchTodos: 텍스트 인덱스 후보 + 비정규화 카운터
+    @Benchmark
+    public Page<TodoSearchResponse> searchDenormalized() {
+        countCache.invalidateAll();
+        return readOnlyTransactionTemplate.execute(status ->
+                todoRepositoryQuery.searchTodos(TITLE, null, null, nickname, PAGEABLE));
+    }
+
+    private BooleanExpression managerNicknameContains() {
+        return StringUtils.hasText(nickname) ? todo.managers.any().user.nickname.containsIgnoreCase(nickname) : null;
+    }
+
+    // TodoTextIndexInitializer 의 기동 시 구축과 같이 전체 행을 스트리밍으로 색인
+    private void buildIndex(TodoTextIndex todoTextIndex) {
+        LocalDateTime indexedBefore = LocalDateTime.now();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TodoTextDocument> titles = todoRepositoryQuery.streamTitlesCreatedSince(null)) {
+                titles.forEach(document -> todoTextIndex.addTitle(document.getTodoId(), document.getText()));
+            }
+            try (Stream<TodoTextDocument> nicknames = todoRepositoryQuery.streamManagerNicknamesCreatedSince(null)) {
+                nicknames.forEach(document -> todoTextIndex.addManagerNickname(document.getTodoId(), document.getText()));
+            }
+        });
+        todoTextIndex.markIndexedBefore(indexedBefore);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.benchmark;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.config.ParallelQueryExecutor;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepositoryQueryImpl;
+import org.example.expert.domain.todo.search.TodoTextIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * GET /todos/search 제목 검색 두 번째 페이지 조회 지연 시간 (todo.search.parallel-count.enabled 비교)
+ * TodoRepositoryQueryImpl.searchTodos 를 ParallelQueryExecutor, HikariCP 커넥션 풀과 함께 그대로 실행한다.
+ * parallelCount=false 는 목록 쿼리 후 count 쿼리를 같은 커넥션에서 이어서 실행,
+ * true 는 count 쿼리를 ParallelQueryExecutor 의 별도 읽기 전용 트랜잭션(커넥션)에서 먼저 시작
+ * count 캐시는 매 호출 비워 count 쿼리가 항상 실행되게 한다.
+ * JDBC 문장 실행과 커밋마다 roundTripMillis 만큼 대기하여 원격 DB 의 왕복 지연을 흉내 낸다. (BenchmarkFixtures.withRoundTrip)
+ * (roundTripMillis = 0 은 순수 쿼리 실행 비용만 비교, 단일 코어 환경에서는 병렬 실행 이점이 없다)
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoSearchCountBenchmark {
+
+    private static final int TODOS = 2_000;
+    private static final Pageable PAGEABLE = PageRequest.of(1, 10);
+
+    // 텍스트 인덱스를 끈 설정에서 제목 부분 일치는 인덱스를 타지 못하므로 두 쿼리 모두 테이블 전체를 읽음
+    private static final String TITLE = "7";
+
+    @Param({"false", "true"})
+    public boolean parallelCount;
+
+    @Param({"0", "5"})
+    public long roundTripMillis;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private ParallelQueryExecutor parallelQueryExecutor;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private TodoRepositoryQueryImpl todoRepositoryQuery;
+    private Cache<?, ?> countCache;
+
+    @Setup
+    public void setUp() {
+        dataSource = BenchmarkFixtures.hikariDataSource("todo-search-count");
+        sessionFactory = BenchmarkFixtures.sessionFactory(
+                BenchmarkFixtures.withRoundTrip(dataSource, roundTripMillis), 50);
+
+        // 애플리케이션 기본값: query.parallel.pool-size=4, query.parallel.queue-capacity=16
+        JpaTransactionManager transactionManager = BenchmarkFixtures.transactionManager(sessionFactory);
+        parallelQueryExecutor = new ParallelQueryExecutor(transactionManager, dataSource, 4, 16);
+        readOnlyTransactionTemplate = BenchmarkFixtures.readOnlyTransactionTemplate(transactionManager);
+        todoRepositoryQuery = new TodoRepositoryQueryImpl(
+                BenchmarkFixtures.queryFactory(sessionFactory), parallelQueryExecutor, new TodoTextIndex(false));
+        ReflectionTestUtils.setField(todoRepositoryQuery, "parallelCountEnabled", parallelCount);
+        countCache = (Cache<?, ?>) ReflectionTestUtils.getField(todoRepositoryQuery, "countCache");
+
+        sessionFactory.inTransaction(session -> {
+            User writer = new User("count@example.com", "password", "count", UserRole.ROLE_USER);
+            session.persist(writer);
+            for (int i = 0; i < TODOS; i++) {
+                session.persist(new Todo("title-" + i, "contents-" + i, "Sunny", writer));
+                if (i % 1_000 == 0) {
+                    session.flush();
+                    session.clear();
+                    writer = session.getReference(User.class, writer.getId());
+                }
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelQueryExecutor.shutdown();
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    // 서비스의 @Transactional(readOnly = true) 안에서 호출
+    @Benchmark
+    public Page<TodoSearchResponse> search() {
+        countCache.invalidateAll();
+        return readOnlyTransactionTemplate.execute(status ->
+                todoRepositoryQuery.searchTodos(TITLE, null, null, null, PAGEABLE));
+    }
+}
@@ -1,28 +1,170 @@
 package org.example.expert.client;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final Duration maxAge;
+
+    // 날짜(MM-dd) -> 날씨 테이블, 하루에 한 번 바뀌는 값이므로 메모리에 보관
+    private volatile WeatherTable weatherTable;
+    // 동시에 캐시가 비어 있어도 원격 요청은 한 번만 나가도록 진행 중인 로딩을 공유
+    private final AtomicReference<CompletableFuture<WeatherTable>> inFlightLoad = new AtomicReference<>();
+    private final ExecutorService refreshExecutor;
+    private final AtomicBoolean backgroundRefreshScheduled = new AtomicBoolean();
+
+    public WeatherClient(RestTemplateBuilder builder,
+                         @Value("${weather.client.connect-timeout:2s}") Duration connectTimeout,
+                         @Value("${weather.client.read-timeout:3s}") Duration readTimeout,
+                         @Value("${weather.cache.max-age:24h}") Duration maxAge) {
+        // JDK HttpClient 는 연결을 풀링하여 재사용, 느린 외부 API 에 묶이지 않도록 연결/읽기 타임아웃 지정
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        this.restTemplate = builder
+                .requestFactory(() -> requestFactory)
+                .build();
+        this.maxAge = maxAge;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("weather-refresh-");
+        threadFactory.setDaemon(true);
+        this.refreshExecutor = Executors.newSingleThreadExecutor(threadFactory);
     }
 
     public String getTodayWeather() {
+        return getWeather(LocalDate.now());
+    }
+
+    public String getWeather(LocalDate date) {
+        String key = date.format(DATE_FORMATTER);
+
+        WeatherTable table = weatherTable;
+        if (table != null && table.isMissing(key)) {
+            // 현재 테이블에 없는 것으로 이미 확인된 날짜는 다시 불러오지 않고 바로 실패 (negative cache)
+            // 테이블이 오래되었으면 갱신만 예약하고, 새 테이블에서 다시 확인한다.
+            if (table.isOlderThan(maxAge)) {
+                refreshInBackground();
+            }
+            throw weatherNotFound();
+        }
+        if (table == null || !table.contains(key)) {
+            // 캐시가 비어 있거나 해당 날짜가 없으면 로딩이 끝날 때까지 대기
+            table = awaitLoad();
+        } else if (table.isOlderThan(maxAge)) {
+            // 오래된 캐시는 그대로 사용하고 백그라운드에서 갱신 (stale-while-revalidate)
+            refreshInBackground();
+        }
+
+        String weather = table.get(key);
+        if (weather == null) {
+            table.markMissing(key);
+            throw weatherNotFound();
+        }
+        return weather;
+    }
+
+    private ServerException weatherNotFound() {
+        return new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    // 날짜가 바뀌기 전에 미리 갱신, 실패해도 기존 테이블을 계속 사용
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 50 23 * * *}")
+    public void refresh() {
+        try {
+            load().join();
+        } catch (CompletionException e) {
+            log.warn("날씨 데이터 갱신에 실패하여 기존 데이터를 계속 사용합니다: {}", e.getCause().getMessage());
+        }
+    }
+
+    private void refreshInBackground() {
+        if (backgroundRefreshScheduled.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    backgroundRefreshScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    private WeatherTable awaitLoad() {
+        try {
+            return load().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // single-flight: 진행 중인 로딩이 있으면 그 결과를 공유하고, 없으면 현재 스레드가 로딩
+    private CompletableFuture<WeatherTable> load() {
+        while (true) {
+            CompletableFuture<WeatherTable> existing = inFlightLoad.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<WeatherTable> created = new CompletableFuture<>();
+            if (!inFlightLoad.compareAndSet(null, created)) {
+                continue;
+            }
+
+            try {
+                WeatherTable loaded = new WeatherTable(fetchWeatherTable(), Instant.now(), ConcurrentHashMap.newKeySet());
+                weatherTable = loaded;
+                created.complete(loaded);
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            } finally {
+                inFlightLoad.compareAndSet(created, null);
+            }
+            return created;
+        }
+    }
+
+    private Map<String, String> fetchWeatherTable() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,15 +177,11 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return weatherByDate;
     }
 
     private URI buildWeatherApiUri() {
@@ -55,8 +193,32 @@ public class WeatherClient {
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // missingDates: 이 테이블을 불러온 뒤에도 없었던 날짜, 테이블이 바뀌면 함께 초기화
+    private record WeatherTable(Map<String, String> weatherByDate, Instant loadedAt, Set<String> missingDates) {
+
+        boolean contains(String date) {
+            return weatherByDate.containsKey(date);
+        }
+
+        String get(String date) {
+            return weatherByDate.get(date);
+        }
+
+        boolean isMissing(String date) {
+            return missingDates.contains(date);
+        }
+
+        void markMissing(String date) {
+            missingDates.add(date);
+        }
+
+        boolean isOlderThan(Duration maxAge) {
+            return loadedAt.plus(maxAge).isBefore(Instant.now());
+        }
     }
 }
@@ -0,0 +1,58 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private final AuthRateLimiter authRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    // /auth/** 요청만 IP 기준으로 제한
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain
+    ) throws ServletException, IOException {
+
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 remoteAddr 이 실제 클라이언트 IP 가 된다.
+        if (!authRateLimiter.tryAcquireIp(request.getRemoteAddr())) {
+            log.info("인증 요청 제한 초과: ip={}, URI={}", request.getRemoteAddr(), request.getRequestURI());
+            sendErrorResponse(response);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private void sendErrorResponse(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+
+        response.setStatus(status.value());
+        response.setContentType("application/json;charset=UTF-8");
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * /auth/** 요청 제한
+ * IP 제한은 AuthRateLimitFilter 에서, 이메일 제한은 AuthController 에서 서비스 호출 전에 적용하여
+ * 거절된 요청은 DB 조회나 비밀번호 해싱까지 가지 않는다.
+ **/
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    private static final String METRIC_NAME = "auth.rate.limit.requests";
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final Counter ipAdmitted;
+    private final Counter ipRejected;
+    private final Counter emailAdmitted;
+    private final Counter emailRejected;
+
+    public AuthRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${auth.rate-limit.ip.capacity:20}") int ipCapacity,
+                           @Value("${auth.rate-limit.ip.refill-per-minute:60}") int ipRefillPerMinute,
+                           @Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+                           @Value("${auth.rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                           @Value("${auth.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${auth.rate-limit.stripes:64}") int stripes) {
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, maxKeys, stripes);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute, maxKeys, stripes);
+
+        this.ipAdmitted = counter(meterRegistry, "ip", "admitted");
+        this.ipRejected = counter(meterRegistry, "ip", "rejected");
+        this.emailAdmitted = counter(meterRegistry, "email", "admitted");
+        this.emailRejected = counter(meterRegistry, "email", "rejected");
+        Gauge.builder("auth.rate.limit.keys", ipLimiter, TokenBucketRateLimiter::size).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("auth.rate.limit.keys", emailLimiter, TokenBucketRateLimiter::size).tag("key", "email").register(meterRegistry);
+    }
+
+    public boolean tryAcquireIp(String ip) {
+        if (!enabled) {
+            return true;
+        }
+        return record(ipLimiter.tryAcquire(ip), ipAdmitted, ipRejected);
+    }
+
+    public void checkEmail(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        if (!record(emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT)), emailAdmitted, emailRejected)) {
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 완전히 다시 채워진 버킷 정리
+    @Scheduled(fixedDelayString = "${auth.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int evicted = ipLimiter.evictIdle() + emailLimiter.evictIdle();
+        if (evicted > 0) {
+            log.debug("유휴 rate limit 버킷 {}개 정리", evicted);
+        }
+    }
+
+    private static boolean record(boolean admitted, Counter admittedCounter, Counter rejectedCounter) {
+        (admitted ? admittedCounter : rejectedCounter).increment();
+        return admitted;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String key, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("key", key)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 캐시 인터셉터를 트랜잭션보다 바깥에 두어 캐시 적중 시 트랜잭션(커넥션)을 열지 않고,
+// 무효화는 커밋 이후에 일어나도록 한다.
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String TODO_CACHE = "todo";
+
+    // Caffeine 은 W-TinyLFU 로 빈도 기반 admission/eviction 을 수행하고, recordStats 통계는 Micrometer 로 노출된다.
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.todo.max-size:10000}") long maxSize,
+                                     @Value("${cache.todo.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TODO_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+
+        // 트랜잭션 안에서 호출되어도 무효화는 커밋 후에 반영
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 통과한 토큰 -> 인증 사용자 정보 캐시
+ * 같은 토큰으로 들어오는 반복 요청은 서명 검증과 claim 파싱을 생략한다.
+ * 각 항목은 토큰의 exp 시각에 만료되고, 전체 크기는 maximumSize 로 제한된다.
+ * 키는 토큰 원문 대신 SHA-256 다이제스트를 사용하여 힙 덤프 등으로 유효한 토큰이 노출되지 않게 한다.
+ **/
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    public VerifiedToken get(String token) {
+        String key = digest(token);
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return null;
+        }
+        // 만료 처리는 비동기로 일어날 수 있으므로 조회 시 exp 를 한 번 더 확인
+        if (cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            cache.invalidate(key);
+            return null;
+        }
+        return cached.verifiedToken();
+    }
+
+    public void put(String token, VerifiedToken verifiedToken, Date expiration) {
+        if (expiration == null) {
+            return;
+        }
+        cache.put(digest(token), new CachedAuthentication(verifiedToken, expiration.getTime()));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현은 SHA-256 을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 폐기 여부는 캐시 히트여도 매 요청 확인해야 하므로 토큰 버전을 함께 보관
+    // 요청 간에 공유되므로 변경 가능한 Authentication 대신 불변인 AuthUser 만 보관
+    public record VerifiedToken(AuthUser authUser, long tokenVersion) {
+    }
+
+    private record CachedAuthentication(VerifiedToken verifiedToken, long expiresAtMillis) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -14,11 +14,10 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtAuthenticationCache.VerifiedToken;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -29,6 +28,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -49,8 +50,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // SecurityContext에 인증 정보가 없는 경우에만 JWT 검증 및 인증 처리
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                Claims claims = jwtUtil.extractClaims(jwt);
-                setAuthentication(claims);
+                // 이미 검증한 토큰이면 서명 검증과 claim 파싱 없이 캐시된 인증 정보 사용
+                VerifiedToken verifiedToken = jwtAuthenticationCache.get(jwt);
+                if (verifiedToken == null) {
+                    Claims claims = jwtUtil.extractClaims(jwt);
+                    // 리프레시 토큰은 /auth/refresh 에서만 사용 가능
+                    if (jwtUtil.isRefreshToken(claims)) {
+                        log.warn("리프레시 토큰으로 API 접근 시도: URI={}", request.getRequestURI());
+                        sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+                        return;
+                    }
+                    verifiedToken = new VerifiedToken(createAuthUser(claims), jwtUtil.getTokenVersion(claims));
+                    jwtAuthenticationCache.put(jwt, verifiedToken, claims.getExpiration());
+                }
+                // 권한/비밀번호 변경으로 폐기된 토큰인지 메모리에서 확인 (DB 조회 없음)
+                AuthUser authUser = verifiedToken.authUser();
+                if (tokenRevocationRegistry.isRevoked(authUser.getId(), verifiedToken.tokenVersion())) {
+                    log.info("폐기된 JWT: userId={}, URI={}", authUser.getId(), request.getRequestURI());
+                    sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "폐기된 토큰입니다. 다시 로그인해주세요.");
+                    return;
+                }
+                // 인증 객체는 요청마다 새로 만들어 SecurityContext에 저장 (캐시에는 불변인 AuthUser 만 보관)
+                SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(authUser));
             }
         } catch (ExpiredJwtException e) {
             log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), request.getRequestURI());
@@ -73,8 +94,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
-    // JWT Claims에서 사용자 정보 추출하여 Spring Security 인증 정보 설정
-    private void setAuthentication(Claims claims) {
+    // JWT Claims에서 사용자 정보 추출
+    private AuthUser createAuthUser(Claims claims) {
 
         // JWT subject claims에서 사용자 ID 추출
         Long userId = Long.valueOf(claims.getSubject());
@@ -85,11 +106,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         UserRole userRole = UserRole.of(claims.get("userRole", String.class));
 
         // 추출 정보로 인증된 사용자 객체 생성
-        AuthUser authUser = new AuthUser(userId, email, nickname, userRole);
-        // Spring security가 인식할 수 있는 Authentication 객체 생성
-        Authentication authenticationToken = new JwtAuthenticationToken(authUser);
-        // SecurityContext에 인증 정보 저장
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        return new AuthUser(userId, email, nickname, userRole);
     }
 
     private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 
@@ -21,20 +23,31 @@ import java.util.Date;
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.access-token.ttl:15m}")
+    private Duration accessTokenTtl;
+    @Value("${jwt.refresh-token.ttl:14d}")
+    private Duration refreshTokenTtl;
     private Key key;
+    private JwtParser jwtParser; // 스레드 안전하므로 한 번만 생성하여 재사용
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    public String createToken(Long userId, String email, String nickname, UserRole userRole) {
+    // tokenVersion: 발급 시점의 사용자 토큰 버전, 권한/비밀번호 변경으로 버전이 오르면 이전 토큰은 폐기된다.
+    public String createToken(Long userId, String email, String nickname, UserRole userRole, long tokenVersion) {
         Date date = new Date();
 
         return BEARER_PREFIX +
@@ -43,12 +56,41 @@ public class JwtUtil {
                         .claim("email", email)
                         .claim("nickname", nickname)
                         .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                        .claim(TOKEN_VERSION_CLAIM, tokenVersion)
+                        .setExpiration(new Date(date.getTime() + accessTokenTtl.toMillis()))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    // 액세스 토큰 재발급 전용 토큰, 사용자 정보 claim 없이 Bearer 접두어 없이 발급
+    // tokenId: 서버에 저장된 리프레시 토큰 id (jti), 재사용 여부를 확인하는 데 쓰인다.
+    public String createRefreshToken(Long userId, long tokenVersion, String tokenId, Date expiration) {
+        return Jwts.builder()
+                .setId(tokenId)
+                .setSubject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
+                .setExpiration(expiration)
+                .setIssuedAt(new Date())
+                .signWith(key, signatureAlgorithm)
+                .compact();
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    // 버전 claim 이 없는 토큰은 버전 0 으로 취급
+    public long getTokenVersion(Claims claims) {
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        return tokenVersion == null ? 0L : tokenVersion.longValue();
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -57,9 +99,7 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -0,0 +1,74 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 서로 독립적인 조회 쿼리를 별도 커넥션에서 병렬로 실행하기 위한 제한된 크기의 실행기
+ * 각 작업은 작업 스레드에서 새 읽기 전용 트랜잭션(= 별도 커넥션)으로 실행된다.
+ **/
+@Slf4j
+@Component
+public class ParallelQueryExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final DataSource dataSource;
+
+    public ParallelQueryExecutor(PlatformTransactionManager transactionManager,
+                                 DataSource dataSource,
+                                 @Value("${query.parallel.pool-size:4}") int poolSize,
+                                 @Value("${query.parallel.queue-capacity:16}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("parallel-query-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.dataSource = dataSource;
+    }
+
+    // 커넥션 풀에 유휴 커넥션이 없거나 작업 큐가 가득 찬 경우 null 반환 -> 호출 측에서 순차 실행
+    public <T> CompletableFuture<T> trySubmit(Supplier<T> query) {
+        if (isConnectionPoolSaturated()) {
+            return null;
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnlyTransactionTemplate.execute(status -> query.get()), executor);
+        } catch (RejectedExecutionException e) {
+            log.debug("병렬 쿼리 실행기 포화로 순차 실행으로 전환합니다.");
+            return null;
+        }
+    }
+
+    private boolean isConnectionPoolSaturated() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            return pool != null && pool.getIdleConnections() == 0;
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,6 +1,10 @@
 package org.example.expert.config;
 
+import jakarta.servlet.DispatcherType;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -10,22 +14,55 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.servletapi.SecurityContextHolderAwareRequestFilter;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true)
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
 
+    // 새 해시는 "{bcrypt}" 접두어와 함께 저장하고, 접두어 없는 기존 해시도 BCrypt 로 검증
+    // 알고리즘이나 cost 를 바꾸면 upgradeEncoding() 이 true 가 되어 다음 로그인 때 재해싱된다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt.strength:10}") int strength,
+                                           @Value("${security.password.bcrypt.target-millis:0}") long targetMillis) {
+        int resolvedStrength = targetMillis > 0 ? calibrateStrength(strength, targetMillis) : strength;
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(resolvedStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
+    }
+
+    // 해시 한 번이 targetMillis 를 넘지 않는 가장 높은 strength 선택 (strength 는 하한)
+    // strength 가 1 오를 때마다 비용은 2배
+    private static int calibrateStrength(int minStrength, long targetMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode("calibration"); // 워밍업
+
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        long elapsedMillis = Math.max(1L, (System.nanoTime() - start) / 1_000_000L);
+
+        int strength = minStrength;
+        while (strength < MAX_BCRYPT_STRENGTH && elapsedMillis * 2 <= targetMillis) {
+            strength++;
+            elapsedMillis *= 2;
+        }
+        log.info("BCrypt strength 보정: strength={}, 예상 해시 시간={}ms", strength, elapsedMillis);
+        return strength;
     }
 
     @Bean
@@ -36,6 +73,7 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .addFilterBefore(jwtAuthenticationFilter, SecurityContextHolderAwareRequestFilter.class)
+                .addFilterBefore(authRateLimitFilter, JwtAuthenticationFilter.class)
 
                 // JWT 사용 시 불필요한 기능들 비활성화
                 .formLogin(AbstractHttpConfigurer::disable)      // [SSR] 서버가 로그인 HTML 폼 렌더링
@@ -45,6 +83,8 @@ public class SecurityConfig {
                 .rememberMe(AbstractHttpConfigurer::disable)     // 서버가 쿠키 발급하여 자동 로그인
 
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답의 비동기 디스패치는 최초 요청에서 이미 인가되었으므로 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // '/auth/**' 경로는 인증 없이 모두 허용
                         .requestMatchers("/auth/**", "/h2-console/**").permitAll()
                         // '/admin/**' 경로는 'ADMIN' 역할을 가진 사용자만 허용
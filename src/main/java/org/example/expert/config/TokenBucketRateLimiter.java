@@ -0,0 +1,122 @@
+package org.example.expert.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(IP, 이메일 등) 별 토큰 버킷
+ * 키 해시로 나눈 stripe 단위로만 잠그므로 서로 다른 키의 요청은 거의 경합하지 않는다.
+ * 각 stripe 는 접근 순서 LinkedHashMap 이라 가장 오래 쓰이지 않은 버킷부터 정리된다.
+ **/
+public class TokenBucketRateLimiter {
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long fullRefillNanos;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, int stripeCount) {
+        this(capacity, refillPerMinute, maxKeys, stripeCount, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 진행시킬 수 있도록 시계를 주입
+    TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, int stripeCount, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("capacity, refillPerMinute, maxKeys 는 1 이상이어야 합니다.");
+        }
+        int stripeSize = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1; // 2의 거듭제곱으로 올림
+        this.stripes = new Stripe[stripeSize];
+        for (int i = 0; i < stripeSize; i++) {
+            stripes[i] = new Stripe(Math.max(1, maxKeys / stripeSize));
+        }
+        this.stripeMask = stripeSize - 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / 60_000_000_000d;
+        this.fullRefillNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripeOf(key);
+
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                // 가득 찬 버킷에서 토큰 하나를 바로 사용
+                stripe.buckets.put(key, new Bucket(capacity - 1, now));
+                return true;
+            }
+
+            bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+            bucket.refilledAt = now;
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        }
+    }
+
+    // 가득 찰 만큼 쉬었던 버킷은 새로 만든 버킷과 같으므로 제거해도 제한 결과가 달라지지 않는다.
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                var iterator = stripe.buckets.values().iterator();
+                while (iterator.hasNext()) {
+                    if (now - iterator.next().refilledAt < fullRefillNanos) {
+                        break; // 접근 순서이므로 이후 버킷은 모두 더 최근에 사용됨
+                    }
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private static final class Stripe {
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            // 키가 상한을 넘으면 가장 오래 사용되지 않은 버킷을 버려 메모리를 제한
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserTokenVersionResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 현재 토큰 버전 (users.token_version) 의 메모리 사본
+ * 토큰을 폐기한 적 있는 사용자(버전 > 0)만 보관하므로 작고, 인증 필터는 DB 조회 없이 폐기 여부를 판단한다.
+ * 시작 시 DB 에서 읽고, 다른 인스턴스에서 폐기된 토큰을 반영하기 위해 주기적으로 다시 읽는다.
+ **/
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final ConcurrentHashMap<Long, Long> tokenVersions = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+
+    public TokenRevocationRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    public void load() {
+        sync();
+        log.info("토큰 폐기 정보 로딩 완료: users={}", tokenVersions.size());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public void sync() {
+        for (UserTokenVersionResponse revoked : userRepository.findRevokedTokenVersions()) {
+            raise(revoked.getUserId(), revoked.getTokenVersion());
+        }
+    }
+
+    public boolean isRevoked(Long userId, long tokenVersion) {
+        return tokenVersion < tokenVersions.getOrDefault(userId, 0L);
+    }
+
+    // 버전 증가가 커밋된 뒤에 반영, 롤백된 변경으로 유효한 토큰이 거절되지 않도록 함
+    public void revoke(Long userId, long tokenVersion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    raise(userId, tokenVersion);
+                }
+            });
+            return;
+        }
+        raise(userId, tokenVersion);
+    }
+
+    // 버전은 증가만 하므로 큰 값으로 병합
+    private void raise(Long userId, long tokenVersion) {
+        tokenVersions.merge(userId, tokenVersion, Math::max);
+    }
+}
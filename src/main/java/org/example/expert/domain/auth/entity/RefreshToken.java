@@ -0,0 +1,59 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 발급한 리프레시 토큰 (id 는 토큰의 jti)
+ * 재발급할 때마다 기존 토큰은 사용 처리되고 같은 family 로 새 토큰이 발급된다.
+ * 사용된 토큰이 다시 들어오면 탈취된 것으로 보고 family 전체를 폐기한다.
+ **/
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        // 만료된 토큰 정리 작업용
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken extends Timestamped implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    // 로그인 한 번에서 이어지는 재발급 토큰들의 묶음
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private boolean used;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RefreshToken(String id, Long userId, String familyId, LocalDateTime expiresAt) {
+        this.id = id;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    // id 를 직접 지정하므로 저장 전 select 없이 바로 insert 되도록 새 엔티티 여부를 알려준다.
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
@@ -1,37 +1,55 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.example.expert.config.PasswordHashingExecutor;
+import org.example.expert.config.TokenRevocationRegistry;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.RefreshTokenResponse;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.entity.RefreshToken;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenRepository refreshTokenRepository;
 
-    @Transactional
+    // 해싱 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 해싱하고, 저장은 save() 의 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHashingExecutor.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
@@ -43,22 +61,96 @@ public class AuthService {
         );
         User savedUser = userRepository.save(newUser);
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname(), userRole, savedUser.getTokenVersion());
+        String refreshToken = issueRefreshToken(savedUser, UUID.randomUUID().toString());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashingExecutor.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
+        // 저장된 해시가 현재 알고리즘/cost 보다 약하면 검증된 평문으로 재해싱 (응답은 기다리지 않음)
+        if (passwordHashingExecutor.upgradeEncoding(user.getPassword())) {
+            upgradePassword(user, signinRequest.getPassword());
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole(), user.getTokenVersion());
+        String refreshToken = issueRefreshToken(user, UUID.randomUUID().toString());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 리프레시 토큰으로 액세스 토큰 재발급, 권한 변경이 반영되도록 사용자 정보는 DB 에서 다시 읽는다.
+    // 리프레시 토큰도 매번 새로 발급(rotation)하고, 이미 사용된 토큰이 다시 들어오면 같은 family 를 모두 폐기한다.
+    // 폐기는 예외를 던진 뒤에도 커밋되어야 하므로 AuthException 으로는 롤백하지 않는다.
+    @Transactional(noRollbackFor = AuthException.class)
+    public RefreshTokenResponse refresh(RefreshTokenRequest refreshTokenRequest) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractClaims(refreshTokenRequest.getRefreshToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        if (!jwtUtil.isRefreshToken(claims)) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        Long userId = Long.valueOf(claims.getSubject());
+        long tokenVersion = jwtUtil.getTokenVersion(claims);
+        if (tokenRevocationRegistry.isRevoked(userId, tokenVersion)) {
+            throw new AuthException("폐기된 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+        if (user.getTokenVersion() > tokenVersion) {
+            throw new AuthException("폐기된 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        String tokenId = claims.getId();
+        RefreshToken storedToken = tokenId == null ? null : refreshTokenRepository.findById(tokenId).orElse(null);
+        if (storedToken == null || !storedToken.getUserId().equals(userId)) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        if (refreshTokenRepository.markUsed(tokenId) == 0) {
+            refreshTokenRepository.deleteAllByFamilyId(storedToken.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지, 같은 로그인의 토큰을 모두 폐기합니다: userId={}", userId);
+            throw new AuthException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole(), user.getTokenVersion());
+        String refreshToken = issueRefreshToken(user, storedToken.getFamilyId());
+
+        return new RefreshTokenResponse(bearerToken, refreshToken);
+    }
+
+    private String issueRefreshToken(User user, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(jwtUtil.getRefreshTokenTtl());
+        refreshTokenRepository.save(new RefreshToken(tokenId, user.getId(), familyId, expiresAt));
+        return jwtUtil.createRefreshToken(user.getId(), user.getTokenVersion(), tokenId,
+                Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    private void upgradePassword(User user, String rawPassword) {
+        CompletableFuture<String> upgraded = passwordHashingExecutor.tryEncodeAsync(rawPassword);
+        if (upgraded == null) {
+            return; // 해싱 대기열이 가득 찬 경우 다음 로그인으로 미룸
+        }
 
-        return new SigninResponse(bearerToken);
+        upgraded.thenAccept(encodedPassword -> userRepository.updatePassword(user.getId(), user.getPassword(), encodedPassword))
+                .exceptionally(e -> {
+                    log.warn("비밀번호 재해싱 실패: userId={}", user.getId(), e);
+                    return null;
+                });
     }
 }
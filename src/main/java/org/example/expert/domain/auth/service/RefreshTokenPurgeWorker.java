@@ -0,0 +1,29 @@
+package org.example.expert.domain.auth.service;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 리프레시 토큰 정리 작업
+ * 사용된 토큰은 재사용 감지를 위해 만료될 때까지 남겨 두고, 만료된 뒤에 지운다.
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeWorker {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}",
+            initialDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpiredTokens() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("만료된 리프레시 토큰 정리 완료: {}건", purged);
+        }
+    }
+}
@@ -7,11 +7,15 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,8 +32,37 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // 여러 todo 의 최근 댓글을 todo id 별로 묶어 조회 (예: /todos/comments?todoIds=1,2,3&size=3)
+    @GetMapping("/todos/comments")
+    public ResponseEntity<Map<Long, List<CommentResponse>>> getLatestComments(
+            @RequestParam List<Long> todoIds,
+            @RequestParam(defaultValue = "3") int size
+    ) {
+        return ResponseEntity.ok(commentService.getLatestComments(todoIds, size));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    // cursor 파라미터가 있으면 (빈 값이면 첫 페이지) 마지막으로 받은 댓글 id 다음부터 limit 건 조회
+    @GetMapping(value = "/todos/{todoId}/comments", params = "cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, limit));
+    }
+
+    // 새 댓글을 SSE(event: comment) 로 전송, 재연결 시 Last-Event-ID 로 놓친 댓글부터 이어받음
+    // 이어받을 수 없으면 event: reset 을 보내며, 클라이언트는 댓글 목록을 다시 조회
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return commentService.subscribeComments(todoId, lastEventId);
+    }
 }
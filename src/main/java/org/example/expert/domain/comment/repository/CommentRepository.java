@@ -1,14 +1,33 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryQuery {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id IN :todoIds ORDER BY c.id")
+    List<Long> findIdsByTodoIdIn(@Param("todoIds") List<Long> todoIds, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    // todo 별 최근 댓글 size 건을 윈도 함수로 한 번에 조회 (todo_id, id) 인덱스 사용
+    // 네이티브 쿼리에는 @SQLRestriction 이 적용되지 않으므로 삭제 표시된 todo 는 조인 조건으로 제외
+    @Query(value = "SELECT c.todo_id AS todoId, c.id AS id, c.contents AS contents, u.id AS userId, u.email AS email " +
+            "FROM (SELECT id, todo_id, user_id, contents, " +
+            "             ROW_NUMBER() OVER (PARTITION BY todo_id ORDER BY id DESC) AS rn " +
+            "      FROM comments WHERE todo_id IN (:todoIds)) c " +
+            "JOIN todos t ON t.id = c.todo_id AND t.deleted = false " +
+            "JOIN users u ON u.id = c.user_id " +
+            "WHERE c.rn <= :size " +
+            "ORDER BY c.todo_id, c.id DESC", nativeQuery = true)
+    List<LatestCommentRow> findLatestByTodoIds(@Param("todoIds") Collection<Long> todoIds, @Param("size") int size);
 }
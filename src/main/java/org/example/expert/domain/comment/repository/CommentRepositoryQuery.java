@@ -0,0 +1,11 @@
+package org.example.expert.domain.comment.repository;
+
+import java.util.List;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+public interface CommentRepositoryQuery {
+
+    List<CommentResponse> findComments(Long todoId);
+
+    List<CommentResponse> findCommentsAfter(Long todoId, Long cursor, int limit);
+}
@@ -0,0 +1,59 @@
+package org.example.expert.domain.comment.repository;
+
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.QCommentResponse;
+import org.example.expert.domain.user.dto.response.QUserResponse;
+
+@RequiredArgsConstructor
+public class CommentRepositoryQueryImpl implements CommentRepositoryQuery {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CommentResponse> findComments(Long todoId) {
+        return selectCommentResponses()
+                .where(comment.todo.id.eq(todoId))
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    // (todo_id, id) 인덱스 범위 스캔
+    @Override
+    public List<CommentResponse> findCommentsAfter(Long todoId, Long cursor, int limit) {
+        return selectCommentResponses()
+                .where(
+                        comment.todo.id.eq(todoId),
+                        idGt(cursor)
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 엔티티 대신 응답에 필요한 컬럼만 조회 (영속성 컨텍스트에 올라가지 않음)
+    // Todo 의 @SQLRestriction 은 연관 조인에는 적용되지 않으므로 삭제 표시된 todo 의 댓글은 조인 조건으로 제외
+    private JPAQuery<CommentResponse> selectCommentResponses() {
+        return queryFactory
+                .select(new QCommentResponse(
+                        comment.id,
+                        comment.contents,
+                        new QUserResponse(user.id, user.email)
+                ))
+                .from(comment)
+                .join(comment.todo, todo).on(todo.deleted.isFalse())
+                .join(comment.user, user);
+    }
+
+    private BooleanExpression idGt(Long cursor) {
+        return cursor != null ? comment.id.gt(cursor) : null;
+    }
+}
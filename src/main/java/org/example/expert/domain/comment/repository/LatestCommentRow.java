@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.repository;
+
+// todo 별 최근 댓글 조회(native) 결과 행
+public interface LatestCommentRow {
+
+    Long getTodoId();
+
+    Long getId();
+
+    String getContents();
+
+    Long getUserId();
+
+    String getEmail();
+}
@@ -1,36 +1,57 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.CacheConfig;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.LatestCommentRow;
+import org.example.expert.domain.comment.stream.CommentStreamHub;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_CURSOR_LIMIT = 100;
+    private static final int MAX_BATCH_TODO_IDS = 100;
+    private static final int MAX_LATEST_SIZE = 20;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoOwnerCache todoOwnerCache;
+    private final CommentStreamHub commentStreamHub;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_CACHE, key = "#todoId")
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        if (!todoOwnerCache.exists(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        // 외래 키로만 쓰이므로 todo 를 조회하지 않고 프록시로 연결
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -39,27 +60,71 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.increaseCommentCount(todoId, 1);
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        // 커밋 후 구독자에게 전송
+        commentStreamHub.publish(todoId, new CommentResponse(savedComment.getId(), savedComment.getContents(), userResponse));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail())
+                userResponse
         );
     }
 
+    // 새 댓글 SSE 구독, Last-Event-ID 가 있으면 놓친 댓글부터 이어서 전송
+    public SseEmitter subscribeComments(long todoId, String lastEventId) {
+        if (!todoOwnerCache.exists(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return commentStreamHub.subscribe(todoId, lastEventId);
+    }
+
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        return commentRepository.findComments(todoId);
+    }
+
+    // 여러 todo 의 최근 댓글 size 건씩을 쿼리 한 번으로 조회, 요청한 todo id 순서대로 묶어 반환
+    // 존재하지 않거나 댓글이 없는 todo 는 빈 목록
+    public Map<Long, List<CommentResponse>> getLatestComments(List<Long> todoIds, int size) {
+        if (todoIds.isEmpty() || todoIds.size() > MAX_BATCH_TODO_IDS) {
+            throw new InvalidRequestException("todoIds 는 1 개 이상 " + MAX_BATCH_TODO_IDS + " 개 이하여야 합니다.");
+        }
+        if (size < 1 || size > MAX_LATEST_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_LATEST_SIZE + " 이하여야 합니다.");
+        }
+
+        Set<Long> uniqueTodoIds = new LinkedHashSet<>(todoIds);
+        Map<Long, List<CommentResponse>> commentsByTodoId = new LinkedHashMap<>();
+        for (Long todoId : uniqueTodoIds) {
+            commentsByTodoId.put(todoId, new ArrayList<>());
+        }
+
+        for (LatestCommentRow row : commentRepository.findLatestByTodoIds(uniqueTodoIds, size)) {
+            commentsByTodoId.get(row.getTodoId()).add(new CommentResponse(
+                    row.getId(),
+                    row.getContents(),
+                    new UserResponse(row.getUserId(), row.getEmail())
+            ));
+        }
+        return commentsByTodoId;
+    }
+
+    // 댓글 id 오름차순 커서 페이지네이션, 필요한 컬럼만 DTO 로 조회하므로 비용이 페이지 크기에 비례
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, Long cursor, int limit) {
+        if (limit < 1 || limit > MAX_CURSOR_LIMIT) {
+            throw new InvalidRequestException("limit 는 1 이상 " + MAX_CURSOR_LIMIT + " 이하여야 합니다.");
         }
-        return dtoList;
+
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1 건 조회
+        List<CommentResponse> comments = commentRepository.findCommentsAfter(todoId, cursor, limit + 1);
+
+        if (comments.size() <= limit) {
+            return new CursorResponse<>(comments, null);
+        }
+
+        comments = comments.subList(0, limit);
+        return new CursorResponse<>(comments, String.valueOf(comments.get(limit - 1).getId()));
     }
 }
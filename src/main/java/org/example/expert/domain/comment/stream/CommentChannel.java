@@ -0,0 +1,97 @@
+package org.example.expert.domain.comment.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * todo 하나의 댓글 이벤트 채널
+ * 최근 이벤트를 고정 크기 링 버퍼에 SSE 프레임으로 보관하고, 이벤트 순번(seq)은 채널 안에서 1 부터 증가한다.
+ * 이벤트 id 는 "epoch-seq" 형식으로, 채널이 다시 만들어지면 epoch 가 바뀌어 이전 id 로는 이어받을 수 없다.
+ **/
+class CommentChannel {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE), 36);
+    private final Frame[] frames;
+    private final Set<CommentSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // 가장 최근 이벤트의 seq, 버퍼에는 (lastSeq - frames.length, lastSeq] 범위가 남아 있음
+    private long lastSeq;
+    private volatile long lastActiveAt = System.currentTimeMillis();
+
+    CommentChannel(int bufferSize) {
+        this.frames = new Frame[bufferSize];
+    }
+
+    synchronized void append(String eventName, String json) {
+        lastSeq++;
+        frames[index(lastSeq)] = new Frame(lastSeq, SseEmitter.event()
+                .id(eventId(lastSeq))
+                .name(eventName)
+                .data(json)
+                .build());
+        lastActiveAt = System.currentTimeMillis();
+    }
+
+    synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    // cursor 이후의 프레임, cursor 가 버퍼 범위 밖으로 밀려났으면 null
+    synchronized List<Frame> framesAfter(long cursor) {
+        if (cursor < lastSeq - frames.length) {
+            return null;
+        }
+        List<Frame> result = new ArrayList<>((int) (lastSeq - cursor));
+        for (long seq = cursor + 1; seq <= lastSeq; seq++) {
+            result.add(frames[index(seq)]);
+        }
+        return result;
+    }
+
+    // Last-Event-ID 로 이어받을 위치, 이어받을 수 없으면 -1
+    synchronized long resolveCursor(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            long seq = Long.parseLong(lastEventId.substring(epoch.length() + 1));
+            return seq <= lastSeq && seq >= lastSeq - frames.length ? seq : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    void add(CommentSubscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    void remove(CommentSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        lastActiveAt = System.currentTimeMillis();
+    }
+
+    Set<CommentSubscriber> subscribers() {
+        return subscribers;
+    }
+
+    // 구독자가 없고 idleMillis 동안 이벤트/구독 해제가 없으면 정리 대상
+    boolean isIdle(long now, long idleMillis) {
+        return subscribers.isEmpty() && now - lastActiveAt >= idleMillis;
+    }
+
+    private int index(long seq) {
+        return (int) (seq % frames.length);
+    }
+
+    record Frame(long seq, Set<DataWithMediaType> data) {
+    }
+}
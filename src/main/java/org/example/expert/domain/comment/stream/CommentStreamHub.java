@@ -0,0 +1,275 @@
+package org.example.expert.domain.comment.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * todo 별 새 댓글 SSE 발행/구독 허브
+ * 댓글 저장이 커밋되면 이벤트를 한 번만 직렬화하여 todo 채널의 링 버퍼에 넣고,
+ * 각 구독자는 자신의 cursor 부터 버퍼를 따라 전송 스레드에서 전송한다.
+ * 대기 중인 구독자는 커서 하나만 가지므로 비용이 거의 없고,
+ * 전송이 버퍼 크기 이상 밀린 느린 구독자는 연결을 끊는다. (재연결 시 Last-Event-ID 로 이어받거나 reset 으로 재조회)
+ * 소켓 쓰기가 막힌 구독자는 전송 스레드 하나만 점유하고, 밀린 정도는 발행 시점에 확인하므로
+ * 전송 스레드가 막혀 있어도 끊을 수 있고 다른 구독자의 전송은 남은 스레드가 계속 처리한다.
+ **/
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    static final String COMMENT_EVENT = "comment";
+    static final String RESET_EVENT = "reset";
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, CommentChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    private final Counter droppedSubscribers;
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long channelIdleMillis;
+
+    public CommentStreamHub(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${comment.stream.buffer-size:256}") int bufferSize,
+                            @Value("${comment.stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${comment.stream.timeout:30m}") Duration timeout,
+                            @Value("${comment.stream.channel-idle-ttl:2m}") Duration channelIdleTtl,
+                            @Value("${comment.stream.dispatch.pool-size:64}") int poolSize,
+                            @Value("${comment.stream.dispatch.queue-capacity:10000}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.channelIdleMillis = channelIdleTtl.toMillis();
+        // 전송은 대부분 소켓 쓰기 대기이므로 스레드를 넉넉히 두고, 한가할 때는 유휴 스레드를 정리
+        this.dispatcher = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("comment-stream-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.dispatcher.allowCoreThreadTimeOut(true);
+
+        this.droppedSubscribers = Counter.builder("comment.stream.dropped").register(meterRegistry);
+        Gauge.builder("comment.stream.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("comment.stream.channels", channels, Map::size).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(long todoId, String lastEventId) {
+        return subscribe(todoId, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(long todoId, String lastEventId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        CommentSubscriber[] created = new CommentSubscriber[1];
+        // 채널 정리(sweep)와 겹치지 않도록 채널 조회와 구독자 등록을 한 번에 처리
+        CommentChannel channel = channels.compute(todoId, (id, existing) -> {
+            CommentChannel target = existing != null ? existing : new CommentChannel(bufferSize);
+            long cursor = target.resolveCursor(lastEventId);
+            boolean resetRequired = lastEventId != null && cursor < 0;
+            created[0] = new CommentSubscriber(emitter, cursor < 0 ? target.lastSeq() : cursor, resetRequired);
+            target.add(created[0]);
+            return target;
+        });
+        CommentSubscriber subscriber = created[0];
+
+        emitter.onCompletion(() -> unsubscribe(channel, subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(channel, subscriber));
+
+        schedule(channel, subscriber);
+        return emitter;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 발행, 롤백된 댓글은 전송하지 않음
+    public void publish(long todoId, CommentResponse comment) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(todoId, comment);
+                }
+            });
+            return;
+        }
+        publishNow(todoId, comment);
+    }
+
+    private void publishNow(long todoId, CommentResponse comment) {
+        // 구독 중인 채널이 없으면 직렬화도 하지 않음
+        CommentChannel channel = channels.get(todoId);
+        if (channel == null) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(comment);
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 이벤트 직렬화 실패: todoId={}, commentId={}", todoId, comment.getId(), e);
+            return;
+        }
+
+        channel.append(COMMENT_EVENT, json);
+        long lastSeq = channel.lastSeq();
+        for (CommentSubscriber subscriber : channel.subscribers()) {
+            // 전송 스레드가 소켓 쓰기에 막혀 cursor 가 멈춘 구독자도 여기서 끊음
+            if (lastSeq - subscriber.cursor > bufferSize) {
+                drop(channel, subscriber, "전송 지연");
+                continue;
+            }
+            schedule(channel, subscriber);
+        }
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고 끊어진 연결을 정리, 구독자가 없는 채널 제거
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Long todoId : channels.keySet()) {
+            CommentChannel channel = channels.computeIfPresent(todoId,
+                    (id, existing) -> existing.isIdle(now, channelIdleMillis) ? null : existing);
+            if (channel == null) {
+                continue;
+            }
+            for (CommentSubscriber subscriber : channel.subscribers()) {
+                subscriber.heartbeatPending = true;
+                schedule(channel, subscriber);
+            }
+        }
+    }
+
+    // 구독자당 전송 작업은 한 번에 하나만 대기열에 올림
+    private void schedule(CommentChannel channel, CommentSubscriber subscriber) {
+        if (subscriber.closed.get() || !subscriber.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(channel, subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.scheduled.set(false);
+            drop(channel, subscriber, "전송 대기열 포화");
+        }
+    }
+
+    private void drain(CommentChannel channel, CommentSubscriber subscriber) {
+        try {
+            if (!subscriber.closed.get()) {
+                send(channel, subscriber);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 또는 이미 완료된 emitter, scheduled 를 풀지 않으므로 다시 예약되지 않음
+            subscriber.emitter.completeWithError(e);
+            unsubscribe(channel, subscriber);
+            return;
+        }
+        subscriber.scheduled.set(false);
+
+        // 전송 중에 끊긴 구독자는 전송을 마친 지금 emitter 를 닫음
+        if (subscriber.closed.get()) {
+            completeIfIdle(subscriber);
+            return;
+        }
+        // 전송 중에 추가된 이벤트가 있으면 다시 예약
+        if (channel.lastSeq() > subscriber.cursor) {
+            schedule(channel, subscriber);
+        }
+    }
+
+    private void send(CommentChannel channel, CommentSubscriber subscriber) throws IOException {
+        if (!subscriber.opened) {
+            subscriber.opened = true;
+            if (subscriber.resetRequired) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(channel.eventId(subscriber.cursor))
+                        .name(RESET_EVENT)
+                        .data("{}"));
+            } else {
+                subscriber.emitter.send(SseEmitter.event().comment("connected"));
+            }
+        }
+
+        List<CommentChannel.Frame> frames = channel.framesAfter(subscriber.cursor);
+        if (frames == null) {
+            drop(channel, subscriber, "버퍼 범위 초과");
+            return;
+        }
+        for (CommentChannel.Frame frame : frames) {
+            if (subscriber.closed.get()) {
+                return;
+            }
+            subscriber.emitter.send(frame.data());
+            subscriber.cursor = frame.seq();
+        }
+
+        if (subscriber.heartbeatPending) {
+            subscriber.heartbeatPending = false;
+            if (frames.isEmpty()) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    // 느린 구독자는 연결을 끊음, 클라이언트는 Last-Event-ID 로 재연결하여 reset 을 받고 재조회
+    private void drop(CommentChannel channel, CommentSubscriber subscriber, String reason) {
+        if (!unsubscribe(channel, subscriber)) {
+            return;
+        }
+        droppedSubscribers.increment();
+        log.debug("댓글 스트림 구독자 연결 종료: {}", reason);
+        completeIfIdle(subscriber);
+    }
+
+    // emitter 의 send 와 complete 는 같은 락을 쓰므로, 전송 중이면 발행 스레드가 기다리지 않도록 drain 이 마친 뒤 닫음
+    private void completeIfIdle(CommentSubscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean unsubscribe(CommentChannel channel, CommentSubscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            channel.remove(subscriber);
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers().forEach(subscriber -> subscriber.emitter.complete()));
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.comment.stream;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 구독자 하나
+ * cursor 는 마지막으로 보낸 이벤트의 seq 이며, scheduled 로 한 번에 한 스레드만 전송하므로 쓰기는 동기화 없이 하고,
+ * 발행 스레드가 밀린 정도를 확인할 때 읽으므로 volatile 로 둔다.
+ **/
+class CommentSubscriber {
+
+    final SseEmitter emitter;
+    final AtomicBoolean scheduled = new AtomicBoolean();
+    final AtomicBoolean closed = new AtomicBoolean();
+
+    volatile long cursor;
+    // 연결 직후 한 번 보내는 프레임 (헤더를 바로 내려보내고, 이어받기 불가 시 reset 알림)
+    boolean opened;
+    boolean resetRequired;
+    volatile boolean heartbeatPending;
+
+    CommentSubscriber(SseEmitter emitter, long cursor, boolean resetRequired) {
+        this.emitter = emitter;
+        this.cursor = cursor;
+        this.resetRequired = resetRequired;
+    }
+}
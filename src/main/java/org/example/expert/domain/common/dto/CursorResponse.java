@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> contents;
+    private final String nextCursor; // 다음 페이지 요청 시 사용할 커서 (마지막 페이지면 null)
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> contents, String nextCursor) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.common.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -5,7 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.entity.Timestamped;
@@ -17,13 +19,18 @@ import org.example.expert.domain.common.entity.Timestamped;
 public class Log extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "logs_seq_generator")
+    @SequenceGenerator(name = "logs_seq_generator", sequenceName = "logs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String contents;
 
-    public Log(String contents) {
+    // 비동기로 저장되므로 createdAt(저장 시각) 과 별도로 요청 시각을 기록
+    private LocalDateTime requestedAt;
+
+    public Log(String contents, LocalDateTime requestedAt) {
         this.contents = contents;
+        this.requestedAt = requestedAt;
     }
 }
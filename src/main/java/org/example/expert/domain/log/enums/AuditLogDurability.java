@@ -0,0 +1,8 @@
+package org.example.expert.domain.log.enums;
+
+public enum AuditLogDurability {
+    // 메모리 대기열에만 넣고 응답, 프로세스 비정상 종료 시 아직 저장되지 않은 로그는 유실될 수 있음
+    MEMORY,
+    // 로컬 WAL 파일에 기록하고 fsync 될 때까지 기다린 뒤 응답 (동시 요청은 fsync 한 번을 함께 사용), 재시작 시 저장되지 않은 로그를 복구
+    WAL
+}
@@ -0,0 +1,379 @@
+package org.example.expert.domain.log.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감사 로그 write-ahead 파일
+ * 한 줄에 하나씩 "E seq requestedAt base64(contents)" 로 기록하고, DB 저장이 커밋되면 "C seq" 체크포인트를 남긴다.
+ * 파일은 "{path}.{첫 seq}" 세그먼트로 나누어 segmentBytes 를 넘으면 새 세그먼트로 넘어가고,
+ * 모든 기록이 체크포인트된 세그먼트는 삭제한다. 체크포인트가 마지막 기록까지 따라잡으면 현재 세그먼트도 비운다.
+ *
+ * fsync 는 group commit 으로 처리한다. 기록(append)은 파일에 쓰기만 하고, awaitDurable 로 기다리는 요청 중 하나가
+ * 그때까지 쓰인 기록을 한 번에 fsync 하면 함께 기다리던 요청이 모두 풀려난다.
+ * 재시작 시 마지막 체크포인트 이후의 기록을 다시 저장한다. (커밋 직후 체크포인트 전에 종료되면 중복 저장될 수 있음)
+ *
+ * 기록과 fsync 는 요청 스레드에서 실행되므로, 요청 스레드가 인터럽트되면 FileChannel 이 닫힌다.
+ * 닫힌 세그먼트 채널은 다시 열어 이후 기록을 이어 가고, 인터럽트된 요청의 기록과 fsync 는 실패로 알린다.
+ **/
+@Slf4j
+class AuditLogWal {
+
+    private static final String ENTRY = "E";
+    private static final String CHECKPOINT = "C";
+    private static final int TAIL_SCAN_SIZE = 8 * 1024;
+
+    private final Path directory;
+    private final String segmentPrefix;
+    private final long segmentBytes;
+
+    // 오래된 순서, 마지막이 현재 기록 중인 세그먼트
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long lastAppendedSeq;
+
+    // group commit: 한 번에 한 요청만 fsync 하고 나머지는 syncedSeq 가 올라갈 때까지 대기
+    private final Object syncLock = new Object();
+    private long syncedSeq;
+    private boolean syncing;
+
+    AuditLogWal(Path path, long segmentBytes) throws IOException {
+        Path absolutePath = path.toAbsolutePath();
+        this.directory = absolutePath.getParent();
+        this.segmentPrefix = absolutePath.getFileName() + ".";
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+    }
+
+    // 마지막 체크포인트 이후의 기록, 비정상 종료로 잘린 마지막 줄은 무시
+    // 세그먼트를 한 줄씩 읽고, 체크포인트를 만나면 그 이전 기록은 바로 버리므로 남은 기록만 메모리에 올라간다.
+    synchronized List<AuditLogEntry> recover() throws IOException {
+        List<Path> segmentFiles = listSegmentFiles();
+        if (!segmentFiles.isEmpty()) {
+            // 기록 도중 종료될 수 있는 건 마지막 세그먼트의 마지막 줄뿐
+            truncateTornTail(segmentFiles.get(segmentFiles.size() - 1));
+        }
+
+        Deque<AuditLogEntry> pending = new ArrayDeque<>();
+        for (Path segmentFile : segmentFiles) {
+            long segmentLastSeq = readSegment(segmentFile, pending);
+            segments.addLast(new Segment(segmentFile, openForAppend(segmentFile), segmentLastSeq));
+        }
+
+        if (pending.isEmpty()) {
+            deleteSegmentsUpTo(Long.MAX_VALUE, true);
+        }
+        // 이전 세그먼트에 이어 쓰지 않고 새 세그먼트에서 시작
+        // (이전 실행이 기록 없이 체크포인트만 남긴 세그먼트는 이름이 같으므로 그대로 이어 씀)
+        if (segments.isEmpty() || !segments.getLast().path.equals(segmentPath(lastAppendedSeq + 1))) {
+            startSegment(lastAppendedSeq + 1);
+        }
+        syncedSeq = lastAppendedSeq;
+        return new ArrayList<>(pending);
+    }
+
+    // 파일에 쓰기만 하고 fsync 는 awaitDurable 에서 모아서 처리
+    synchronized long append(LocalDateTime requestedAt, String contents) throws IOException {
+        Segment active = activeSegment();
+        long start = -1;
+        try {
+            if (active.channel.size() >= segmentBytes) {
+                // 이전 세그먼트의 기록은 여기서 디스크에 내려 두므로 이후 fsync 는 새 세그먼트만 하면 된다.
+                active.channel.force(false);
+                active = startSegment(lastAppendedSeq + 1);
+            }
+
+            long seq = lastAppendedSeq + 1;
+            String encoded = Base64.getEncoder().encodeToString(contents.getBytes(StandardCharsets.UTF_8));
+            start = active.channel.position();
+            write(active.channel, ENTRY + "\t" + seq + "\t" + requestedAt + "\t" + encoded + "\n");
+            lastAppendedSeq = seq;
+            active.lastSeq = seq;
+            return seq;
+        } catch (ClosedChannelException e) {
+            // 현재 요청이나 fsync 중인 다른 요청의 인터럽트로 닫힘
+            // 쓰다 만 줄을 지워 다음 기록이 이어 붙지 않게 하고, 이 기록은 실패로 알림
+            reopen(active, start);
+            throw e;
+        }
+    }
+
+    // seq 까지의 기록이 디스크에 내려갈 때까지 대기
+    void awaitDurable(long seq) throws IOException {
+        synchronized (syncLock) {
+            while (syncedSeq < seq && syncing) {
+                try {
+                    syncLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("감사 로그 WAL fsync 대기 중 인터럽트");
+                }
+            }
+            if (syncedSeq >= seq) {
+                return;
+            }
+            syncing = true;
+        }
+
+        // 이 요청이 대표로 그때까지 쓰인 기록을 모두 fsync, 실패하면 기다리던 요청 중 하나가 다시 시도
+        long targetSeq = 0;
+        boolean synced = false;
+        try {
+            Segment segment;
+            synchronized (this) {
+                targetSeq = lastAppendedSeq;
+                segment = activeSegment();
+            }
+            force(segment);
+            synced = true;
+        } finally {
+            synchronized (syncLock) {
+                if (synced) {
+                    syncedSeq = Math.max(syncedSeq, targetSeq);
+                }
+                syncing = false;
+                syncLock.notifyAll();
+            }
+        }
+    }
+
+    // seq 까지 DB 에 저장됨, 모든 기록이 저장된 세그먼트는 삭제
+    synchronized void checkpoint(long seq) throws IOException {
+        if (seq >= lastAppendedSeq) {
+            deleteSegmentsUpTo(Long.MAX_VALUE, false);
+            Segment active = activeSegment();
+            active.channel.truncate(0);
+            active.channel.position(0);
+            return;
+        }
+        // 체크포인트를 먼저 남긴 뒤 이전 세그먼트를 지워야 재시작 시 지워진 범위를 다시 저장하지 않는다.
+        write(activeSegment().channel, CHECKPOINT + "\t" + seq + "\n");
+        deleteSegmentsUpTo(seq, false);
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    synchronized void close() throws IOException {
+        for (Segment segment : segments) {
+            segment.channel.close();
+        }
+        segments.clear();
+    }
+
+    // 그 사이 세그먼트가 모두 저장되어 삭제되었으면 더 내려 둘 기록이 없음
+    // 다른 요청의 인터럽트로 채널이 닫혔으면 fsync 가 끝났는지 알 수 없으므로 다시 연 채널로 재시도
+    private void force(Segment segment) throws IOException {
+        while (true) {
+            FileChannel channel;
+            synchronized (this) {
+                if (!segments.contains(segment)) {
+                    return;
+                }
+                reopen(segment, -1);
+                channel = segment.channel;
+            }
+            try {
+                channel.force(false);
+                return;
+            } catch (ClosedByInterruptException e) {
+                // 현재 요청이 인터럽트됨: 기록은 파일에 남아 있으므로 채널만 다시 열어 두고, fsync 는 확인하지 못했으므로 실패
+                synchronized (this) {
+                    reopen(segment, -1);
+                }
+                throw e;
+            } catch (ClosedChannelException e) {
+                // 삭제되었거나 다른 요청의 인터럽트로 닫힘, 다시 확인
+            }
+        }
+    }
+
+    // 인터럽트로 닫힌 세그먼트 채널을 다시 열고, truncateTo 가 0 이상이면 그 길이로 자름 (삭제된 세그먼트는 무시)
+    // 인터럽트 상태에서는 새 채널도 첫 입출력에서 바로 닫히므로 여는 동안만 인터럽트 상태를 내려 둔다.
+    private void reopen(Segment segment, long truncateTo) throws IOException {
+        if (segment.channel.isOpen() || !segments.contains(segment)) {
+            return;
+        }
+        boolean interrupted = Thread.interrupted();
+        try {
+            FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.WRITE);
+            if (truncateTo >= 0) {
+                channel.truncate(truncateTo);
+            }
+            channel.position(channel.size());
+            segment.channel = channel;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 기록을 pending 에 추가하고 체크포인트 이전 기록은 제거, 이 세그먼트의 마지막 seq 반환
+    private long readSegment(Path segmentFile, Deque<AuditLogEntry> pending) throws IOException {
+        long segmentLastSeq = 0;
+        try (BufferedReader reader = Files.newBufferedReader(segmentFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split("\t");
+                try {
+                    if (fields.length == 2 && CHECKPOINT.equals(fields[0])) {
+                        long checkpoint = Long.parseLong(fields[1]);
+                        while (!pending.isEmpty() && pending.peekFirst().seq() <= checkpoint) {
+                            pending.pollFirst();
+                        }
+                    } else if (fields.length == 4 && ENTRY.equals(fields[0])) {
+                        long seq = Long.parseLong(fields[1]);
+                        String decoded = new String(Base64.getDecoder().decode(fields[3]), StandardCharsets.UTF_8);
+                        pending.addLast(new AuditLogEntry(seq, LocalDateTime.parse(fields[2]), decoded));
+                        lastAppendedSeq = Math.max(lastAppendedSeq, seq);
+                        segmentLastSeq = Math.max(segmentLastSeq, seq);
+                    } else {
+                        log.warn("감사 로그 WAL 의 손상된 줄을 건너뜁니다: {}", line);
+                    }
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    log.warn("감사 로그 WAL 의 손상된 줄을 건너뜁니다: {}", line);
+                }
+            }
+        }
+        return segmentLastSeq;
+    }
+
+    // 줄바꿈으로 끝나지 않은 마지막 줄은 기록 도중 종료된 것이므로 제거 (응답하지 않은 로그)
+    // 파일 끝에서부터 마지막 줄바꿈을 찾으므로 파일 전체를 읽지 않는다.
+    private void truncateTornTail(Path segmentFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(TAIL_SCAN_SIZE);
+            long position = end;
+            while (position > 0) {
+                int length = (int) Math.min(TAIL_SCAN_SIZE, position);
+                position -= length;
+                buffer.clear().limit(length);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                for (int i = length - 1; i >= 0; i--) {
+                    if (buffer.get(i) == '\n') {
+                        truncateTo(channel, position + i + 1, end);
+                        return;
+                    }
+                }
+            }
+            truncateTo(channel, 0, end);
+        }
+    }
+
+    private void truncateTo(FileChannel channel, long size, long end) throws IOException {
+        if (size < end) {
+            log.warn("감사 로그 WAL 의 잘린 마지막 줄을 건너뜁니다.");
+            channel.truncate(size);
+        }
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> firstSeqOf(file) >= 0)
+                    .sorted(Comparator.comparingLong(this::firstSeqOf))
+                    .toList();
+        }
+    }
+
+    private long firstSeqOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(segmentPrefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(segmentPrefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Path segmentPath(long firstSeq) {
+        return directory.resolve(segmentPrefix + firstSeq);
+    }
+
+    private Segment startSegment(long firstSeq) throws IOException {
+        Path segmentFile = segmentPath(firstSeq);
+        Segment segment = new Segment(segmentFile, openForAppend(segmentFile), 0);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    // 현재 세그먼트를 제외하고 lastSeq 가 seq 이하인 세그먼트를 오래된 순으로 삭제 (includeActive 면 전부)
+    private void deleteSegmentsUpTo(long seq, boolean includeActive) throws IOException {
+        while (!segments.isEmpty()
+                && (includeActive || segments.size() > 1)
+                && segments.peekFirst().lastSeq <= seq) {
+            Segment segment = segments.pollFirst();
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        }
+    }
+
+    // 복구 전이나 종료 후에는 기록할 세그먼트가 없음
+    private Segment activeSegment() throws IOException {
+        if (segments.isEmpty()) {
+            throw new ClosedChannelException();
+        }
+        Segment active = segments.getLast();
+        reopen(active, -1);
+        return active;
+    }
+
+    private static FileChannel openForAppend(Path segmentFile) throws IOException {
+        FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private static void write(FileChannel channel, String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // 이전 세그먼트의 채널은 삭제할 때 닫는다. (진행 중인 fsync 가 닫힌 채널을 만나지 않도록)
+    // 인터럽트로 닫힌 채널은 AuditLogWal 잠금 안에서 다시 연 채널로 교체
+    private static final class Segment {
+        private final Path path;
+        private FileChannel channel;
+        private long lastSeq;
+
+        private Segment(Path path, FileChannel channel, long lastSeq) {
+            this.path = path;
+            this.channel = channel;
+            this.lastSeq = lastSeq;
+        }
+    }
+
+    record AuditLogEntry(long seq, LocalDateTime requestedAt, String contents) {
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.expert.domain.log.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.example.expert.domain.log.entity.Log;
+import org.example.expert.domain.log.enums.AuditLogDurability;
+import org.example.expert.domain.log.repository.LogRepository;
+import org.example.expert.domain.log.service.AuditLogWal.AuditLogEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 감사 로그 비동기 배치 저장
+ * 요청 스레드는 제한된 크기의 lock-free 대기열에 넣고 바로 돌아가며,
+ * 전용 writer 스레드가 batch-size 건씩 한 트랜잭션으로 묶어 JDBC 배치 INSERT 로 저장한다.
+ * 요청 스레드가 커넥션을 하나 더 잡지 않으므로 바깥 트랜잭션이 풀을 모두 점유해도 교착되지 않는다.
+ *
+ * 배치 저장은 max-attempts 번까지만 재시도하고, 그래도 실패하면 한 건씩 저장하여 실패한 건만 dead-letter 로그
+ * (logger "audit-log.dead-letter")에 남기고 넘어간다. 한 건의 잘못된 로그가 이후 로그 저장을 막지 않는다.
+ * 대기열이 가득 차면 요청 스레드에 트랜잭션이 없을 때만 직접 저장하고, 이미 커넥션을 잡고 있으면
+ * 커넥션을 하나 더 잡지 않도록 dead-letter 로그에 남긴다.
+ **/
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Logger DEAD_LETTER_LOG = LoggerFactory.getLogger("audit-log.dead-letter");
+
+    private final LogRepository logRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // ConcurrentLinkedQueue 는 크기 제한이 없으므로 size 로 capacity 를 제한
+    private final Queue<AuditLogEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxAttempts;
+
+    // WAL 모드에서 기록 순서와 대기열 순서를 맞추기 위한 잠금, MEMORY 모드에서는 null
+    private final AuditLogWal wal;
+    private final Object walLock = new Object();
+
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter fallbackCounter;
+    private final Counter deadLetterCounter;
+
+    public AuditLogWriter(LogRepository logRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${audit-log.queue-capacity:10000}") int capacity,
+                          @Value("${audit-log.batch-size:500}") int batchSize,
+                          @Value("${audit-log.flush-interval-ms:100}") long flushIntervalMillis,
+                          @Value("${audit-log.max-attempts:3}") int maxAttempts,
+                          @Value("${audit-log.durability:MEMORY}") AuditLogDurability durability,
+                          @Value("${audit-log.wal.path:data/audit-log.wal}") String walPath,
+                          @Value("${audit-log.wal.segment-size:16MB}") DataSize walSegmentSize) throws IOException {
+        this.logRepository = logRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        this.flushTimer = Timer.builder("audit.log.flush").register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.log.written").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("audit.log.sync.fallback").register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("audit.log.dead.letter").register(meterRegistry);
+        Gauge.builder("audit.log.queue.size", size, AtomicInteger::get).register(meterRegistry);
+
+        this.wal = durability == AuditLogDurability.WAL ? new AuditLogWal(Path.of(walPath), walSegmentSize.toBytes()) : null;
+        if (wal != null) {
+            // 이전 실행에서 저장되지 못한 로그를 먼저 대기열에 넣음 (capacity 와 무관)
+            List<AuditLogEntry> pending = wal.recover();
+            pending.forEach(queue::offer);
+            size.addAndGet(pending.size());
+            if (!pending.isEmpty()) {
+                log.info("감사 로그 WAL 복구: {}건", pending.size());
+            }
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("audit-log-writer-");
+        threadFactory.setDaemon(true);
+        this.writerThread = threadFactory.newThread(this::runWriter);
+        this.writerThread.start();
+    }
+
+    public void append(String contents) {
+        LocalDateTime requestedAt = LocalDateTime.now();
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            saveNow(contents, requestedAt, "대기열 가득 참");
+            return;
+        }
+
+        if (wal == null) {
+            queue.offer(new AuditLogEntry(0, requestedAt, contents));
+        } else {
+            long seq;
+            try {
+                // 대기열 순서가 seq 순서와 같아야 체크포인트가 앞선 기록을 건너뛰지 않음
+                synchronized (walLock) {
+                    seq = wal.append(requestedAt, contents);
+                    queue.offer(new AuditLogEntry(seq, requestedAt, contents));
+                }
+            } catch (IOException e) {
+                size.decrementAndGet();
+                log.warn("감사 로그 WAL 기록 실패", e);
+                saveNow(contents, requestedAt, "WAL 기록 실패");
+                return;
+            }
+            wakeUpWriterIfFull();
+
+            // 다른 요청과 fsync 를 한 번으로 묶어 기다림, 이미 대기열에 있으므로 실패해도 저장은 된다.
+            try {
+                wal.awaitDurable(seq);
+            } catch (IOException e) {
+                log.warn("감사 로그 WAL fsync 실패, 재시작 전에 저장되지 않으면 유실될 수 있습니다. seq={}", seq, e);
+            }
+            return;
+        }
+
+        wakeUpWriterIfFull();
+    }
+
+    private void wakeUpWriterIfFull() {
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    // 대기열에 넣을 수 없을 때의 대체 저장
+    // 요청 스레드가 이미 트랜잭션(커넥션)을 잡고 있으면 커넥션을 하나 더 잡지 않고 dead-letter 로그에 남긴다.
+    private void saveNow(String contents, LocalDateTime requestedAt, String reason) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            deadLetter(contents, requestedAt, reason);
+            return;
+        }
+        fallbackCounter.increment();
+        try {
+            transactionTemplate.executeWithoutResult(status -> logRepository.save(new Log(contents, requestedAt)));
+        } catch (RuntimeException e) {
+            log.warn("감사 로그 직접 저장 실패", e);
+            deadLetter(contents, requestedAt, reason + ", 직접 저장 실패");
+        }
+    }
+
+    private void deadLetter(String contents, LocalDateTime requestedAt, String reason) {
+        deadLetterCounter.increment();
+        DEAD_LETTER_LOG.error("reason={}, requestedAt={}, contents={}", reason, requestedAt, contents);
+    }
+
+    private void runWriter() {
+        List<AuditLogEntry> batch = new ArrayList<>(batchSize);
+        while (running || !batch.isEmpty() || !queue.isEmpty()) {
+            if (batch.isEmpty()) {
+                drainTo(batch);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+
+            flushWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    // 배치 저장을 maxAttempts 번까지 시도하고, 그래도 실패하면 한 건씩 저장하여 실패한 건만 dead-letter 로 보냄
+    private void flushWithRetry(List<AuditLogEntry> batch) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                flushTimer.record(() -> save(batch));
+                checkpoint(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("감사 로그 저장 실패 ({}/{}), batch={}", attempt, maxAttempts, batch.size(), e);
+                if (attempt < maxAttempts && running) {
+                    LockSupport.parkNanos(RETRY_BACKOFF_NANOS);
+                }
+            }
+        }
+
+        for (AuditLogEntry entry : batch) {
+            try {
+                save(List.of(entry));
+            } catch (RuntimeException e) {
+                log.warn("감사 로그 단건 저장 실패, dead-letter 로 보냅니다.", e);
+                deadLetter(entry.contents(), entry.requestedAt(), "저장 실패");
+            }
+        }
+        checkpoint(batch);
+    }
+
+    private void drainTo(List<AuditLogEntry> batch) {
+        AuditLogEntry entry;
+        while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+            batch.add(entry);
+        }
+        size.addAndGet(-batch.size());
+    }
+
+    private void save(List<AuditLogEntry> entries) {
+        List<Log> logs = entries.stream()
+                .map(entry -> new Log(entry.contents(), entry.requestedAt()))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> logRepository.saveAll(logs));
+        writtenCounter.increment(entries.size());
+    }
+
+    // 저장했거나 dead-letter 로 보낸 배치는 WAL 에서 다시 복구하지 않음
+    private void checkpoint(List<AuditLogEntry> batch) {
+        if (wal != null) {
+            try {
+                wal.checkpoint(batch.get(batch.size() - 1).seq());
+            } catch (IOException e) {
+                // 체크포인트를 남기지 못하면 재시작 시 중복 저장될 뿐이므로 배치는 완료로 처리
+                log.warn("감사 로그 WAL 체크포인트 기록 실패", e);
+            }
+        }
+    }
+
+    // 남은 로그를 모두 저장한 뒤 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        if (wal != null) {
+            wal.close();
+        }
+    }
+}
@@ -1,22 +1,17 @@
 package org.example.expert.domain.log.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.log.entity.Log;
-import org.example.expert.domain.log.repository.LogRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class LogService {
 
-    private final LogRepository logRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 호출 측 트랜잭션과 별개로 저장 (롤백되어도 로그는 남음)
+    // 커넥션을 추가로 잡지 않도록 대기열에 넣고 AuditLogWriter 가 배치로 저장
     public void saveLog(String contents) {
-
-        Log log = new Log(contents);
-        logRepository.save(log);
+        auditLogWriter.append(contents);
     }
 }
@@ -3,6 +3,7 @@ package org.example.expert.domain.manager.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -12,6 +13,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,6 +30,22 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    // 최대 ManagerBatchSaveRequest.MAX_SIZE 명 일괄 등록, 하나라도 유효하지 않으면 전체 거절
+    @PostMapping("/todos/{todoId}/managers/batch")
+    public ResponseEntity<List<ManagerSaveResponse>> saveManagers(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody ManagerBatchSaveRequest managerBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBatchSaveRequest));
+    }
+
+    // 여러 todo 의 담당자를 todo id 별로 묶어 조회 (예: /todos/managers?todoIds=1,2,3)
+    @GetMapping("/todos/managers")
+    public ResponseEntity<Map<Long, List<ManagerResponse>>> getManagers(@RequestParam List<Long> todoIds) {
+        return ResponseEntity.ok(managerService.getManagers(todoIds));
+    }
+
     @GetMapping("/todos/{todoId}/managers")
     public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
         return ResponseEntity.ok(managerService.getManagers(todoId));
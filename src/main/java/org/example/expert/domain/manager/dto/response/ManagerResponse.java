@@ -1,5 +1,6 @@
 package org.example.expert.domain.manager.dto.response;
 
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
@@ -9,6 +10,7 @@ public class ManagerResponse {
     private final Long id;
     private final UserResponse user;
 
+    @QueryProjection // QManagerResponse 생성
     public ManagerResponse(Long id, UserResponse user) {
         this.id = id;
         this.user = user;
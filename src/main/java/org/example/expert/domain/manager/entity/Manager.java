@@ -3,16 +3,22 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
-public class Manager {
+@Table(name = "managers", indexes = {
+        // 텍스트 인덱스 동기화 및 동기화 전 담당자의 LIKE 검색용
+        @Index(name = "idx_managers_created_at", columnList = "created_at")
+})
+public class Manager extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "managers_seq_generator")
+    @SequenceGenerator(name = "managers_seq_generator", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
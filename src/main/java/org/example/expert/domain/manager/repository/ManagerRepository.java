@@ -1,13 +1,23 @@
 package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+public interface ManagerRepository extends JpaRepository<Manager, Long>, ManagerRepositoryQuery {
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findAssignedUserIds(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT m.id FROM Manager m WHERE m.todo.id IN :todoIds ORDER BY m.id")
+    List<Long> findIdsByTodoIdIn(@Param("todoIds") List<Long> todoIds, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id IN :managerIds")
+    int deleteAllByIdIn(@Param("managerIds") List<Long> managerIds);
 }
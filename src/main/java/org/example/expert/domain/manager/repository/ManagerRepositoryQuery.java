@@ -0,0 +1,13 @@
+package org.example.expert.domain.manager.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+public interface ManagerRepositoryQuery {
+
+    List<ManagerResponse> findManagers(Long todoId);
+
+    Map<Long, List<ManagerResponse>> findManagersGroupByTodoId(Collection<Long> todoIds);
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.manager.repository;
+
+import static org.example.expert.domain.manager.entity.QManager.manager;
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.dto.response.QManagerResponse;
+import org.example.expert.domain.user.dto.response.QUserResponse;
+
+@RequiredArgsConstructor
+public class ManagerRepositoryQueryImpl implements ManagerRepositoryQuery {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 엔티티 대신 응답에 필요한 컬럼만 조회 (영속성 컨텍스트에 올라가지 않음)
+    // Todo 의 @SQLRestriction 은 연관 조인에는 적용되지 않으므로 삭제 표시된 todo 의 담당자는 조인 조건으로 제외
+    @Override
+    public List<ManagerResponse> findManagers(Long todoId) {
+        return queryFactory
+                .select(new QManagerResponse(
+                        manager.id,
+                        new QUserResponse(user.id, user.email)
+                ))
+                .from(manager)
+                .join(manager.todo, todo).on(todo.deleted.isFalse())
+                .join(manager.user, user)
+                .where(manager.todo.id.eq(todoId))
+                .orderBy(manager.id.asc())
+                .fetch();
+    }
+
+    // 여러 todo 의 담당자를 IN 쿼리 한 번으로 조회하여 todo id 별로 묶음 (삭제 표시된 todo 는 제외)
+    // GroupBy.transform 은 Hibernate 6 의 ScrollableResults 와 호환되지 않아 직접 묶음
+    @Override
+    public Map<Long, List<ManagerResponse>> findManagersGroupByTodoId(Collection<Long> todoIds) {
+        QManagerResponse managerResponse = new QManagerResponse(
+                manager.id,
+                new QUserResponse(user.id, user.email)
+        );
+
+        List<Tuple> rows = queryFactory
+                .select(manager.todo.id, managerResponse)
+                .from(manager)
+                .join(manager.todo, todo).on(todo.deleted.isFalse())
+                .join(manager.user, user)
+                .where(manager.todo.id.in(todoIds))
+                .orderBy(manager.todo.id.asc(), manager.id.asc())
+                .fetch();
+
+        Map<Long, List<ManagerResponse>> managersByTodoId = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            managersByTodoId.computeIfAbsent(row.get(manager.todo.id), todoId -> new ArrayList<>())
+                    .add(row.get(managerResponse));
+        }
+        return managersByTodoId;
+    }
+}
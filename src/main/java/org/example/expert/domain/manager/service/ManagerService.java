@@ -1,9 +1,11 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.CacheConfig;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.log.service.LogService;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -11,27 +13,40 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ManagerService {
 
+    private static final int LOG_CONTENTS_MAX_LENGTH = 255;
+    private static final int MAX_BATCH_TODO_IDS = 100;
+
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
     private final LogService logService;
+    private final TodoOwnerCache todoOwnerCache;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_CACHE, key = "#todoId")
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
 
         // 로그 기록
@@ -44,10 +59,10 @@ public class ManagerService {
 
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        Long ownerId = todoOwnerCache.findOwnerId(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(user.getId(), ownerId)) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
         }
 
@@ -58,8 +73,10 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        // 외래 키로만 쓰이므로 todo 를 조회하지 않고 프록시로 연결
+        Manager newManagerUser = new Manager(managerUser, todoRepository.getReferenceById(todoId));
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.increaseManagerCount(todoId, 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -67,41 +84,121 @@ public class ManagerService {
         );
     }
 
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
+    // 담당자 여러 명을 한 번에 등록
+    // 권한 확인 1회, 대상 유저는 IN 쿼리 1회로 조회하고 중복/본인 지정은 메모리에서 검사한 뒤 배치 INSERT
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_CACHE, key = "#todoId")
+    public List<ManagerSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest managerBatchSaveRequest) {
+        List<Long> managerUserIds = managerBatchSaveRequest.getManagerUserIds();
+
+        // 로그 기록 (요청 한 건당 한 번)
+        String logContents = String.format(
+                "[담당자 일괄 등록 Request] Todo ID = %d, 요청자 ID = %d, 담당자 수 = %d, 담당자 ID = %s",
+                todoId, authUser.getId(), managerUserIds.size(), managerUserIds
+        );
+        logService.saveLog(abbreviate(logContents));
+
+        User user = User.fromAuthUser(authUser);
+        Long ownerId = todoOwnerCache.findOwnerId(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        if (!ObjectUtils.nullSafeEquals(user.getId(), ownerId)) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+        }
+
+        Set<Long> uniqueUserIds = new LinkedHashSet<>(managerUserIds);
+        if (uniqueUserIds.size() != managerUserIds.size()) {
+            throw new InvalidRequestException("중복된 담당자 유저 id 가 있습니다.");
+        }
+        if (uniqueUserIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        Map<Long, User> managerUsers = userRepository.findAllById(uniqueUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (managerUsers.size() != uniqueUserIds.size()) {
+            List<Long> missingUserIds = uniqueUserIds.stream().filter(id -> !managerUsers.containsKey(id)).toList();
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다. id = " + missingUserIds);
+        }
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
+        List<Long> assignedUserIds = managerRepository.findAssignedUserIds(todoId, uniqueUserIds);
+        if (!assignedUserIds.isEmpty()) {
+            throw new InvalidRequestException("이미 담당자로 등록된 유저가 있습니다. id = " + assignedUserIds);
+        }
+
+        Todo todo = todoRepository.getReferenceById(todoId);
+        List<Manager> newManagers = new ArrayList<>(uniqueUserIds.size());
+        for (Long managerUserId : uniqueUserIds) {
+            newManagers.add(new Manager(managerUsers.get(managerUserId), todo));
+        }
+        List<Manager> savedManagers = managerRepository.saveAll(newManagers);
+        todoRepository.increaseManagerCount(todoId, savedManagers.size());
+
+        List<ManagerSaveResponse> responses = new ArrayList<>(savedManagers.size());
+        for (Manager savedManager : savedManagers) {
+            User managerUser = savedManager.getUser();
+            responses.add(new ManagerSaveResponse(
+                    savedManager.getId(),
+                    new UserResponse(managerUser.getId(), managerUser.getEmail())
             ));
         }
-        return dtoList;
+        return responses;
+    }
+
+    public List<ManagerResponse> getManagers(long todoId) {
+        if (!todoOwnerCache.exists(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        return managerRepository.findManagers(todoId);
+    }
+
+    // 여러 todo 의 담당자를 쿼리 한 번으로 조회, 요청한 todo id 순서대로 묶어 반환
+    // 존재하지 않는 todo 는 빈 목록 (todo 별 존재 확인 쿼리 없음)
+    public Map<Long, List<ManagerResponse>> getManagers(List<Long> todoIds) {
+        if (todoIds.isEmpty() || todoIds.size() > MAX_BATCH_TODO_IDS) {
+            throw new InvalidRequestException("todoIds 는 1 개 이상 " + MAX_BATCH_TODO_IDS + " 개 이하여야 합니다.");
+        }
+
+        Set<Long> uniqueTodoIds = new LinkedHashSet<>(todoIds);
+        Map<Long, List<ManagerResponse>> found = managerRepository.findManagersGroupByTodoId(uniqueTodoIds);
+
+        Map<Long, List<ManagerResponse>> managersByTodoId = new LinkedHashMap<>();
+        for (Long todoId : uniqueTodoIds) {
+            managersByTodoId.put(todoId, found.getOrDefault(todoId, List.of()));
+        }
+        return managersByTodoId;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_CACHE, key = "#todoId")
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
         User user = User.fromAuthUser(authUser);
 
-        Todo todo = todoRepository.findById(todoId)
+        Long ownerId = todoOwnerCache.findOwnerId(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(user.getId(), ownerId)) {
             throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
         Manager manager = managerRepository.findById(managerId)
                 .orElseThrow(() -> new InvalidRequestException("Manager not found"));
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
+        // 지연 로딩 프록시의 id 는 초기화 없이 읽음
+        if (!ObjectUtils.nullSafeEquals(todoId, manager.getTodo().getId())) {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
         managerRepository.delete(manager);
+        todoRepository.increaseManagerCount(todoId, -1);
+    }
+
+    // logs.contents 컬럼 길이를 넘지 않도록 자름
+    private static String abbreviate(String contents) {
+        if (contents.length() <= LOG_CONTENTS_MAX_LENGTH) {
+            return contents;
+        }
+        return contents.substring(0, LOG_CONTENTS_MAX_LENGTH - 3) + "...";
     }
 }
@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.controller;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoBulkDeleteResponse;
+import org.example.expert.domain.todo.dto.response.TodoCountReconcileResponse;
+import org.example.expert.domain.todo.service.TodoCountReconcileService;
+import org.example.expert.domain.todo.service.TodoDeleteService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoCountReconcileService todoCountReconcileService;
+    private final TodoDeleteService todoDeleteService;
+
+    @PostMapping("/admin/todos/counts/reconcile")
+    public ResponseEntity<TodoCountReconcileResponse> reconcileCounts() {
+        return ResponseEntity.ok(todoCountReconcileService.reconcileCounts());
+    }
+
+    // 생성일 범위의 todo 를 삭제 표시 (예: /admin/todos?startDate=2024-01-01T00:00:00&endDate=2024-12-31T23:59:59)
+    @DeleteMapping("/admin/todos")
+    public ResponseEntity<TodoBulkDeleteResponse> deleteTodos(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        return ResponseEntity.ok(todoDeleteService.deleteTodosCreatedBetween(startDate, endDate));
+    }
+}
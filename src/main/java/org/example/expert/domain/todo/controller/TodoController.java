@@ -4,24 +4,35 @@ import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
+    private final TodoBatchService todoBatchService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -31,6 +42,15 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 최대 TodoBatchSaveRequest.MAX_SIZE 건 일괄 생성, 항목별 성공/실패 결과 반환
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoBatchService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -42,11 +62,39 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate));
     }
 
+    // cursor 파라미터가 있으면 (빈 값이면 첫 페이지) 커서 기반 페이지네이션으로 조회
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, startDate, endDate));
+    }
+
+    // 전체 todo 를 NDJSON 또는 CSV 로 응답 스트림에 바로 기록
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(defaultValue = "ndjson") String format) {
+        TodoExportFormat exportFormat = TodoExportFormat.of(format);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=todos." + exportFormat.getExtension())
+                .body(outputStream -> todoExportService.export(exportFormat, outputStream));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
 
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@AuthenticationPrincipal AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
+    }
+
     @GetMapping("/todos/search")
     public ResponseEntity<Page<TodoSearchResponse>> searchTodos(
             @RequestParam(required = false) String title,
@@ -58,4 +106,16 @@ public class TodoController {
 
         return ResponseEntity.ok(todoService.searchTodos(title, startDate, endDate, nickname, pageable));
     }
+
+    @GetMapping(value = "/todos/search", params = "mode=slice")
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodosSlice(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String nickname,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+
+        return ResponseEntity.ok(todoService.searchTodosSlice(title, startDate, endDate, nickname, pageable));
+    }
 }
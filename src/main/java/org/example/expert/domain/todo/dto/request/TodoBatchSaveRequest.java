@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    public static final int MAX_SIZE = 5000;
+
+    // 항목별 검증은 서비스에서 수행하여 잘못된 항목만 실패로 응답
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<TodoSaveRequest> todos;
+}
@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+/**
+ * 할 일 목록 커서 페이지네이션용 커서
+ * (modifiedAt, id) 를 "modifiedAt|id" 로 이어 붙여 URL-safe Base64 로 인코딩한 불투명 토큰
+ **/
+@Getter
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = modifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 커서는 첫 페이지 요청으로 간주하여 null 반환
+    public static TodoCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.valueOf(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
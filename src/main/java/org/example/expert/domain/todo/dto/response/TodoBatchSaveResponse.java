@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    private final int savedCount;
+    private final int failedCount;
+    private final String weather;
+    private final List<TodoBatchItemResponse> results;
+
+    public TodoBatchSaveResponse(int savedCount, int failedCount, String weather, List<TodoBatchItemResponse> results) {
+        this.savedCount = savedCount;
+        this.failedCount = failedCount;
+        this.weather = weather;
+        this.results = results;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkDeleteResponse {
+
+    private final long chunkCount;
+    private final long deletedCount;
+
+    public TodoBulkDeleteResponse(long chunkCount, long deletedCount) {
+        this.chunkCount = chunkCount;
+        this.deletedCount = deletedCount;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoCountReconcileResponse {
+
+    private final long chunkCount;
+    private final long updatedCount;
+
+    public TodoCountReconcileResponse(long chunkCount, long updatedCount) {
+        this.chunkCount = chunkCount;
+        this.updatedCount = updatedCount;
+    }
+}
@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,15 +16,44 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 커서 페이지네이션 (modifiedAt DESC, id DESC) 용 복합 인덱스
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+        @Index(name = "idx_todos_weather", columnList = "weather"),
+        // 검색 정렬, 텍스트 인덱스 동기화 및 동기화 전 행의 LIKE 검색용
+        @Index(name = "idx_todos_created_at", columnList = "created_at"),
+        // 삭제 표시된 todo 정리 작업용
+        @Index(name = "idx_todos_deleted_id", columnList = "deleted, id")
+})
+// 삭제 표시된 todo 는 엔티티 조회(JPQL, QueryDSL)에서 제외, 실제 행은 TodoPurgeWorker 가 정리
+@SQLRestriction("deleted = false")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 비동기 날씨 보강 모드에서 날씨가 아직 채워지지 않은 todo 표시
+    public static final String WEATHER_PENDING = "PENDING";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq_generator")
+    @SequenceGenerator(name = "todos_seq_generator", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 검색 시 집계 쿼리 없이 읽기 위한 비정규화 카운터 (UPDATE ... SET count = count + n 으로만 변경)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+
+    // 삭제 요청 시 UPDATE 로 표시만 하고 즉시 응답
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,5 +70,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 }
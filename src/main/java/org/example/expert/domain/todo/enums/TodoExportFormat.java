@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.enums;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum TodoExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static TodoExportFormat of(String format) {
+        return Arrays.stream(TodoExportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 export 형식입니다."));
+    }
+}
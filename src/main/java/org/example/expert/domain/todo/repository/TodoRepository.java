@@ -1,12 +1,17 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
-import org.antlr.v4.runtime.atn.SemanticContext.OR;
+import java.util.List;
+import java.util.stream.Stream;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
@@ -16,15 +21,59 @@ public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositor
     @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
-    @Query("SELECT t FROM Todo t JOIN FETCH t.user u "
-            + "WHERE (:weather IS NULL OR t.weather = :weather) "
-            + "AND (:startDate IS NULL OR t.modifiedAt >= :startDate) "
-            + "AND (:endDate IS NULL OR t.modifiedAt <= :endDate) "
-            + "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByConditions(
-            @Param("weather") String weather,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+    // 전체 export 용 전방향 스트림 (MySQL 은 useCursorFetch=true 설정 시 fetch size 단위로 읽음)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.id")
+    Stream<Todo> streamAllWithUser();
 
+    // 권한/존재 확인용: todo 행 전체 대신 작성자 id 만 조회
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int increaseManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int increaseCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    List<Todo> findByWeatherAndIdGreaterThanOrderByIdAsc(String weather, Long id, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather WHERE t.id IN :todoIds AND t.weather = :pending")
+    int updatePendingWeather(@Param("todoIds") List<Long> todoIds,
+                             @Param("weather") String weather,
+                             @Param("pending") String pending);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.deleted = true WHERE t.id IN :todoIds AND t.deleted = false")
+    int softDeleteAllByIdIn(@Param("todoIds") List<Long> todoIds);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.createdAt BETWEEN :startDate AND :endDate ORDER BY t.id")
+    List<Long> findIdsByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                         @Param("endDate") LocalDateTime endDate,
+                                         Pageable pageable);
+
+    // 삭제 표시된 행은 엔티티 조회에서 제외되므로 정리 작업은 native 쿼리로 조회/삭제
+    @Query(value = "SELECT id FROM todos WHERE deleted = true ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id IN (:todoIds) AND deleted = true", nativeQuery = true)
+    int purgeDeleted(@Param("todoIds") List<Long> todoIds);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // 카운터 보정: id 범위 단위로 실제 담당자 수, 댓글 수를 다시 계산
+    @Modifying
+    @Query("UPDATE Todo t "
+            + "SET t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id), "
+            + "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) "
+            + "WHERE t.id BETWEEN :fromId AND :toId")
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
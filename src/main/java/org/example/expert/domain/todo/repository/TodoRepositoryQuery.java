@@ -1,15 +1,32 @@
 package org.example.expert.domain.todo.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.search.TodoTextDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface TodoRepositoryQuery {
 
     Optional<Todo> findByIdWithUser(Long todoId);
 
+    Page<TodoResponse> findByConditions(String weather, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    List<TodoResponse> findByConditionsAfterCursor(String weather, LocalDateTime startDate, LocalDateTime endDate, TodoCursor cursor, int limit);
+
     Page<TodoSearchResponse> searchTodos(String title, LocalDateTime startDate, LocalDateTime endDate, String nickname, Pageable pageable);
+
+    Slice<TodoSearchResponse> searchTodosSlice(String title, LocalDateTime startDate, LocalDateTime endDate, String nickname, Pageable pageable);
+
+    // since 가 null 이면 전체
+    Stream<TodoTextDocument> streamTitlesCreatedSince(LocalDateTime since);
+
+    Stream<TodoTextDocument> streamManagerNicknamesCreatedSince(LocalDateTime since);
 }
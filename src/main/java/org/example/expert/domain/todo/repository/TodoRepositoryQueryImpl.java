@@ -1,28 +1,66 @@
 package org.example.expert.domain.todo.repository;
 
-import static org.example.expert.domain.comment.entity.QComment.comment;
 import static org.example.expert.domain.manager.entity.QManager.manager;
 import static org.example.expert.domain.todo.entity.QTodo.todo;
 import static org.example.expert.domain.user.entity.QUser.user;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ParallelQueryExecutor;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.response.QTodoResponse;
 import org.example.expert.domain.todo.dto.response.QTodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.search.TodoTextDocument;
+import org.example.expert.domain.todo.search.TodoTextIndex;
+import org.example.expert.domain.user.dto.response.QUserResponse;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 @RequiredArgsConstructor
 public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
 
+    private static final Duration COUNT_CACHE_TTL = Duration.ofSeconds(30);
+    private static final long COUNT_CACHE_MAX_SIZE = 10_000L;
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private final JPAQueryFactory queryFactory;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final TodoTextIndex todoTextIndex;
+
+    // true 이면 목록 쿼리와 count 쿼리를 별도 커넥션에서 동시에 실행
+    @Value("${todo.search.parallel-count.enabled:false}")
+    private boolean parallelCountEnabled;
+
+    // 검색 조건별 전체 개수 캐시
+    private final Cache<SearchCountKey, Long> countCache = Caffeine.newBuilder()
+            .expireAfterWrite(COUNT_CACHE_TTL)
+            .maximumSize(COUNT_CACHE_MAX_SIZE)
+            .build();
 
     @Override
     public Optional<Todo> findByIdWithUser(Long todoId) {
@@ -37,43 +75,165 @@ public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public Page<TodoResponse> findByConditions(String weather, LocalDateTime startDate, LocalDateTime endDate,
+                                               Pageable pageable) {
+        Predicate[] conditions = {weatherEq(weather), modifiedDateBetween(startDate, endDate)};
+
+        List<TodoResponse> results = selectTodoResponses()
+                .where(conditions)
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(results, pageable, () -> countTodos(conditions));
+    }
+
+    @Override
+    public List<TodoResponse> findByConditionsAfterCursor(String weather, LocalDateTime startDate, LocalDateTime endDate,
+                                                          TodoCursor cursor, int limit) {
+        // OFFSET 없이 (modifiedAt, id) 인덱스를 타고 커서 다음 위치부터 limit 건만 조회
+        return selectTodoResponses()
+                .where(
+                        weatherEq(weather),
+                        modifiedDateBetween(startDate, endDate),
+                        afterCursor(cursor)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 엔티티 대신 응답에 필요한 컬럼만 조회 (영속성 컨텍스트에 올라가지 않음)
+    private JPAQuery<TodoResponse> selectTodoResponses() {
+        return queryFactory
+                .select(new QTodoResponse(
+                        todo.id,
+                        todo.title,
+                        todo.contents,
+                        todo.weather,
+                        new QUserResponse(user.id, user.email),
+                        todo.createdAt,
+                        todo.modifiedAt
+                ))
+                .from(todo)
+                .join(todo.user, user);
+    }
+
     @Override
     public Page<TodoSearchResponse> searchTodos(String title, LocalDateTime startDate, LocalDateTime endDate,
                                                 String nickname, Pageable pageable) {
-        // 조건에 맞는 목록 조회
-        List<TodoSearchResponse> resulsts = queryFactory
+        SearchCountKey countKey = SearchCountKey.of(title, startDate, endDate, nickname);
+        Predicate[] conditions = searchConditions(title, startDate, endDate, nickname);
+
+        // 병렬 모드: 캐시된 count 가 없으면 count 쿼리를 먼저 다른 커넥션에서 시작 (실행기/커넥션 풀이 포화면 순차 실행)
+        CompletableFuture<Long> countFuture = null;
+        if (parallelCountEnabled && countCache.getIfPresent(countKey) == null) {
+            countFuture = parallelQueryExecutor.trySubmit(() -> countTodos(conditions));
+        }
+        if (countFuture != null) {
+            // 짧은 페이지라 아래에서 count 를 쓰지 않더라도 이미 실행한 결과는 캐시에 남겨 다음 요청에서 재사용
+            countFuture.thenAccept(count -> countCache.put(countKey, count));
+        }
+
+        List<TodoSearchResponse> results = searchContents(conditions, pageable.getOffset(), pageable.getPageSize());
+
+        // 첫 페이지가 size 보다 작거나 마지막 페이지인 경우 전체 개수를 content 로 계산할 수 있으므로 count 쿼리 생략
+        // 그 외에는 같은 검색 조건의 count 를 짧은 TTL 동안 캐시하여 페이지 이동 시 재집계하지 않음
+        // 이미 시작한 count 는 캐시 밖에서 기다림: 캐시 로더 안에서 기다리면 키 잠금을 쥔 채로
+        // 같은 키에 결과를 넣으려는 thenAccept 콜백(실행기 스레드)과 서로를 기다리게 됨
+        CompletableFuture<Long> startedCount = countFuture;
+        return PageableExecutionUtils.getPage(results, pageable, () -> startedCount != null
+                ? joinCount(startedCount)
+                : countCache.get(countKey, key -> countTodos(conditions)));
+    }
+
+    @Override
+    public Slice<TodoSearchResponse> searchTodosSlice(String title, LocalDateTime startDate, LocalDateTime endDate,
+                                                      String nickname, Pageable pageable) {
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회 (count 쿼리 없음)
+        List<TodoSearchResponse> results = searchContents(
+                searchConditions(title, startDate, endDate, nickname),
+                pageable.getOffset(),
+                pageable.getPageSize() + 1
+        );
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        if (hasNext) {
+            results = results.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+
+    private List<TodoSearchResponse> searchContents(Predicate[] conditions, long offset, int limit) {
+        // 담당자 수, 댓글 수는 todo 행의 비정규화 카운터를 그대로 조회
+        return queryFactory
                 .select(new QTodoSearchResponse(
                         todo.title,
-                        manager.id.countDistinct(),
-                        comment.id.countDistinct()
+                        todo.managerCount,
+                        todo.commentCount
                 ))
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(todo.comments, comment)
-                .where(
-                        titleContains(title),
-                        createdDateBetween(startDate, endDate),
-                        managerNicknameContains(nickname)
-                )
-                .groupBy(todo.id, todo.title, todo.createdAt) // 기본 키와 select 절의 non-aggregate 필드로 그룹화
-                .orderBy(todo.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .where(conditions)
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .offset(offset)
+                .limit(limit)
                 .fetch();
+    }
 
-        // 전체 카운트 조회 쿼리
+    private long countTodos(Predicate[] conditions) {
+        // 전체 카운트 조회 쿼리 (닉네임 조건은 서브쿼리로 처리되므로 조인 불필요)
         Long count = queryFactory
-                .select(todo.id.countDistinct())
+                .select(todo.count())
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .where(
-                        titleContains(title),
-                        createdDateBetween(startDate, endDate),
-                        managerNicknameContains(nickname)
-                )
+                .where(conditions)
                 .fetchOne();
 
-        return new PageImpl<>(resulsts, pageable, count == null ? 0L : count);
+        return count == null ? 0L : count;
+    }
+
+    private long joinCount(CompletableFuture<Long> countFuture) {
+        try {
+            return countFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Stream<TodoTextDocument> streamTitlesCreatedSince(LocalDateTime since) {
+        return queryFactory
+                .select(Projections.constructor(TodoTextDocument.class, todo.id, todo.id, todo.title, todo.createdAt))
+                .from(todo)
+                .where(since != null ? todo.createdAt.goe(since) : null)
+                .orderBy(todo.id.asc())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    @Override
+    public Stream<TodoTextDocument> streamManagerNicknamesCreatedSince(LocalDateTime since) {
+        return queryFactory
+                .select(Projections.constructor(TodoTextDocument.class, manager.id, manager.todo.id, user.nickname, manager.createdAt))
+                .from(manager)
+                .join(manager.user, user)
+                .where(since != null ? manager.createdAt.goe(since) : null)
+                .orderBy(manager.todo.id.asc())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    private Predicate[] searchConditions(String title, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+        return new Predicate[]{
+                titleContains(title),
+                createdDateBetween(startDate, endDate),
+                managerNicknameContains(nickname)
+        };
     }
 
     /**
@@ -82,7 +242,16 @@ public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
 
     private BooleanExpression titleContains(String title) {
 
-        return StringUtils.hasText(title) ? todo.title.containsIgnoreCase(title) : null;
+        if (!StringUtils.hasText(title)) {
+            return null;
+        }
+
+        // 텍스트 인덱스로 후보 id 를 먼저 좁히고, 정확한 일치 여부는 LIKE 조건으로 확인
+        return candidateIdIn(
+                todoTextIndex.findTitleCandidates(title),
+                todo.title.containsIgnoreCase(title),
+                todo.createdAt::goe
+        );
     }
 
     private BooleanExpression createdDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
@@ -99,8 +268,72 @@ public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
         return null;
     }
 
+    private BooleanExpression weatherEq(String weather) {
+
+        return weather != null ? todo.weather.eq(weather) : null;
+    }
+
+    private BooleanExpression modifiedDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
+
+        BooleanExpression goe = startDate != null ? todo.modifiedAt.goe(startDate) : null;
+        BooleanExpression loe = endDate != null ? todo.modifiedAt.loe(endDate) : null;
+
+        return goe == null ? loe : goe.and(loe);
+    }
+
+    // (modifiedAt, id) 내림차순 기준으로 커서보다 뒤에 있는 행
+    private BooleanExpression afterCursor(TodoCursor cursor) {
+
+        if (cursor == null) {
+            return null;
+        }
+
+        return todo.modifiedAt.lt(cursor.getModifiedAt())
+                .or(todo.modifiedAt.eq(cursor.getModifiedAt()).and(todo.id.lt(cursor.getId())));
+    }
+
     private BooleanExpression managerNicknameContains(String nickname) {
 
-        return StringUtils.hasText(nickname) ? todo.managers.any().user.nickname.containsIgnoreCase(nickname) : null;
+        if (!StringUtils.hasText(nickname)) {
+            return null;
+        }
+
+        return candidateIdIn(
+                todoTextIndex.findManagerNicknameCandidates(nickname),
+                todo.managers.any().user.nickname.containsIgnoreCase(nickname),
+                since -> todo.managers.any().createdAt.goe(since)
+        );
+    }
+
+    // 인덱스를 쓸 수 없으면(null) LIKE 조건만 사용
+    // 인덱스는 워터마크 이전에 생성된 행만 빠짐없이 담고 있으므로, 워터마크 이후에 생성된 행은 후보가 아니어도 LIKE 로 확인
+    private BooleanExpression candidateIdIn(TodoTextIndex.Candidates candidates, BooleanExpression condition,
+                                            Function<LocalDateTime, BooleanExpression> createdSince) {
+
+        if (candidates == null) {
+            return condition;
+        }
+
+        BooleanExpression recentRows = createdSince.apply(candidates.indexedBefore());
+        if (candidates.todoIds().length == 0) {
+            return condition.and(recentRows);
+        }
+
+        return condition.and(todo.id.in(Arrays.stream(candidates.todoIds()).boxed().toList()).or(recentRows));
+    }
+
+    /**
+     * count 캐시 키
+     * 검색 조건은 대소문자를 무시하므로 소문자로, 빈 문자열은 조건 없음(null)으로 정규화
+     **/
+    private record SearchCountKey(String title, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+
+        static SearchCountKey of(String title, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+            return new SearchCountKey(normalize(title), startDate, endDate, normalize(nickname));
+        }
+
+        private static String normalize(String value) {
+            return StringUtils.hasText(value) ? value.toLowerCase(Locale.ROOT) : null;
+        }
     }
 }
@@ -0,0 +1,162 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 todo id 집합을 delta + varint 로 압축해 저장하는 posting list
+ * 오름차순으로 들어오는 id 는 압축 블록 끝에 바로 이어 붙이고,
+ * 순서가 어긋난 id 는 버퍼에 모았다가 버퍼가 블록 크기에 비례한 한도에 이르면 블록과 병합한다.
+ * (병합 비용이 블록 크기에 비례하므로 한도도 비례하게 두어 추가 한 건당 병합 비용을 상수로 유지)
+ **/
+final class PostingList {
+
+    private static final int MIN_BUFFER_CAPACITY = 32;
+    private static final int BUFFER_RATIO = 8; // 블록 원소 8 개당 버퍼 1 칸
+    private static final long[] EMPTY_BUFFER = new long[0];
+
+    private byte[] block = new byte[8];
+    private int blockLength;
+    private int blockCount;
+    private long blockLast;
+
+    private long[] buffer = EMPTY_BUFFER;
+    private int bufferSize;
+
+    synchronized void add(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("id 는 양수여야 합니다: " + id);
+        }
+
+        if (bufferSize == 0 && id > blockLast) {
+            append(id);
+            return;
+        }
+        if (id == blockLast) {
+            return;
+        }
+
+        if (bufferSize == buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(MIN_BUFFER_CAPACITY, buffer.length * 2));
+        }
+        buffer[bufferSize++] = id;
+        if (bufferSize >= Math.max(MIN_BUFFER_CAPACITY, blockCount / BUFFER_RATIO)) {
+            compact();
+        }
+    }
+
+    synchronized int size() {
+        return blockCount + bufferSize;
+    }
+
+    // 중복 없이 오름차순으로 정렬된 id 배열
+    synchronized long[] toArray() {
+        if (bufferSize == 0) {
+            return decode();
+        }
+        return merge(decode(), sortedBuffer());
+    }
+
+    // 정렬된 ids 중 이 목록에 있는 id 만 반환 (교집합)
+    // 블록은 ids 의 마지막 값까지만 디코딩하고, 전체 배열을 만들지 않는다.
+    synchronized long[] retainAll(long[] ids) {
+        long[] sortedBuffer = bufferSize == 0 ? EMPTY_BUFFER : sortedBuffer();
+        long[] retained = new long[ids.length];
+        int count = 0;
+
+        long value = 0;
+        int position = 0;
+        int decoded = 0;
+        for (long id : ids) {
+            while (decoded < blockCount && value < id) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = block[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                value += delta;
+                decoded++;
+            }
+            if (value == id || Arrays.binarySearch(sortedBuffer, id) >= 0) {
+                retained[count++] = id;
+            }
+        }
+        return count == retained.length ? retained : Arrays.copyOf(retained, count);
+    }
+
+    private void compact() {
+        long[] merged = merge(decode(), sortedBuffer());
+
+        block = new byte[Math.max(8, merged.length * 2)];
+        blockLength = 0;
+        blockCount = 0;
+        blockLast = 0;
+        for (long id : merged) {
+            append(id);
+        }
+
+        buffer = EMPTY_BUFFER;
+        bufferSize = 0;
+    }
+
+    private void append(long id) {
+        long delta = id - blockLast;
+        if (block.length - blockLength < 10) {
+            block = Arrays.copyOf(block, block.length * 2);
+        }
+
+        while ((delta & ~0x7FL) != 0) {
+            block[blockLength++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        block[blockLength++] = (byte) delta;
+
+        blockLast = id;
+        blockCount++;
+    }
+
+    private long[] decode() {
+        long[] ids = new long[blockCount];
+        long value = 0;
+        int position = 0;
+        for (int i = 0; i < blockCount; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = block[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            value += delta;
+            ids[i] = value;
+        }
+        return ids;
+    }
+
+    private long[] sortedBuffer() {
+        long[] sorted = Arrays.copyOf(buffer, bufferSize);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // 두 정렬 배열을 중복 제거하며 병합
+    private static long[] merge(long[] left, long[] right) {
+        long[] merged = new long[left.length + right.length];
+        int i = 0, j = 0, k = 0;
+        while (i < left.length || j < right.length) {
+            long next;
+            if (j == right.length || (i < left.length && left[i] <= right[j])) {
+                next = left[i++];
+            } else {
+                next = right[j++];
+            }
+            if (k == 0 || merged[k - 1] != next) {
+                merged[k++] = next;
+            }
+        }
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+}
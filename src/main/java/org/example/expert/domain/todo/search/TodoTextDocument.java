@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.search;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+// 텍스트 인덱스 구축 시 스트리밍으로 읽어 오는 (원본 행 id, todo id, 텍스트, 원본 행 생성 시각)
+@Getter
+public class TodoTextDocument {
+
+    private final Long rowId; // todos 또는 managers 행의 id
+    private final Long todoId;
+    private final String text;
+    private final LocalDateTime createdAt;
+
+    public TodoTextDocument(Long rowId, Long todoId, String text, LocalDateTime createdAt) {
+        this.rowId = rowId;
+        this.todoId = todoId;
+        this.text = text;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.expert.domain.todo.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * todo 제목, 담당자 닉네임에 대한 3-gram 역색인
+ * 검색어의 모든 3-gram 을 포함하는 todo id 후보 집합을 돌려주며, 후보는 실제 결과의 상위 집합이다.
+ * (정확한 부분 문자열 일치 여부는 DB 의 LIKE 조건이 최종 확인)
+ * 그래서 삭제/롤백 시 색인을 지우지 않아도 결과가 틀리지 않고, 추가만 빠짐없이 반영하면 된다.
+ *
+ * 인스턴스마다 따로 두는 메모리 인덱스이며 TodoTextIndexInitializer 의 주기적인 동기화로만 채워진다.
+ * 후보는 indexedBefore 이전에 생성된 행에 대해서만 완전하므로, 그 이후에 생성된 행은 호출 측이 LIKE 로 확인한다.
+ **/
+@Slf4j
+@Component
+public class TodoTextIndex {
+
+    private static final int GRAM_SIZE = 3;
+    // 가장 짧은 posting list 가 이보다 길면 후보로 좁히는 이득이 없으므로 인덱스를 쓰지 않음
+    private static final int MAX_CANDIDATES = 1000;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, PostingList> titleIndex = new ConcurrentHashMap<>();
+    private final Map<String, PostingList> nicknameIndex = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    // 이 시각 이전에 생성된 행은 모두 색인됨, 초기 구축이 끝나기 전(null)에는 후보를 돌려주지 않고 LIKE 검색으로 처리
+    private volatile LocalDateTime indexedBefore;
+
+    public TodoTextIndex(@Value("${todo.search.text-index.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 동기화가 끝날 때마다 호출, 색인을 모두 반영한 뒤에 워터마크를 올린다.
+    public void markIndexedBefore(LocalDateTime indexedBefore) {
+        if (this.indexedBefore == null) {
+            log.info("Todo 텍스트 인덱스 구축 완료: titleGrams={}, nicknameGrams={}", titleIndex.size(), nicknameIndex.size());
+        }
+        this.indexedBefore = indexedBefore;
+    }
+
+    public void addTitle(long todoId, String title) {
+        index(titleIndex, todoId, title);
+    }
+
+    public void addManagerNickname(long todoId, String nickname) {
+        index(nicknameIndex, todoId, nickname);
+    }
+
+    // 인덱스를 사용할 수 없는 경우 (비활성화, 구축 전, 검색어가 3글자 미만, 후보가 너무 많음) null 반환
+    public Candidates findTitleCandidates(String keyword) {
+        return search(titleIndex, keyword);
+    }
+
+    public Candidates findManagerNicknameCandidates(String keyword) {
+        return search(nicknameIndex, keyword);
+    }
+
+    private void index(Map<String, PostingList> index, long todoId, String text) {
+        if (!enabled || !StringUtils.hasText(text)) {
+            return;
+        }
+
+        for (String gram : grams(normalize(text))) {
+            index.computeIfAbsent(gram, key -> new PostingList()).add(todoId);
+        }
+    }
+
+    private Candidates search(Map<String, PostingList> index, String keyword) {
+        // 후보보다 먼저 읽어야 그 사이 동기화로 색인된 행이 후보와 LIKE 확인 범위 양쪽에서 빠지지 않음
+        LocalDateTime indexedBefore = this.indexedBefore;
+        if (!enabled || indexedBefore == null || !StringUtils.hasText(keyword)) {
+            return null;
+        }
+
+        Set<String> grams = grams(normalize(keyword));
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        PostingList[] postings = new PostingList[grams.size()];
+        int[] sizes = new int[grams.size()];
+        int count = 0;
+        for (String gram : grams) {
+            PostingList posting = index.get(gram);
+            if (posting == null) {
+                return new Candidates(new long[0], indexedBefore);
+            }
+            postings[count] = posting;
+            sizes[count] = posting.size();
+            count++;
+        }
+        sortBySize(postings, sizes);
+
+        // 가장 짧은 posting list 부터 교집합, 이후 목록은 후보 범위까지만 디코딩
+        if (sizes[0] > MAX_CANDIDATES) {
+            return null;
+        }
+        long[] candidates = postings[0].toArray();
+        for (int i = 1; i < postings.length && candidates.length > 0; i++) {
+            candidates = postings[i].retainAll(candidates);
+        }
+        return new Candidates(candidates, indexedBefore);
+    }
+
+    // gram 수가 적으므로 삽입 정렬 (동시 추가로 크기가 바뀌어도 정렬 기준이 흔들리지 않도록 미리 읽은 크기 사용)
+    private static void sortBySize(PostingList[] postings, int[] sizes) {
+        for (int i = 1; i < postings.length; i++) {
+            PostingList posting = postings[i];
+            int size = sizes[i];
+            int j = i - 1;
+            while (j >= 0 && sizes[j] > size) {
+                postings[j + 1] = postings[j];
+                sizes[j + 1] = sizes[j];
+                j--;
+            }
+            postings[j + 1] = posting;
+            sizes[j + 1] = size;
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    // 대소문자, 악센트 구분 없는 DB collation 에 맞춰 소문자 변환 후 결합 문자 제거 (한글 음절은 NFC 로 다시 조합)
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return Normalizer.normalize(COMBINING_MARKS.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC);
+    }
+
+    /**
+     * 검색어 후보 todo id (오름차순)
+     * indexedBefore 이전에 생성된 일치 행은 todoIds 에 모두 포함되고, 이후에 생성된 행은 포함되지 않을 수 있다.
+     **/
+    public record Candidates(long[] todoIds, LocalDateTime indexedBefore) {
+    }
+}
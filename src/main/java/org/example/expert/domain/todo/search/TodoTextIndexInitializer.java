@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 텍스트 인덱스 구축 및 동기화
+ * 기동 시 전체를 스트리밍으로 읽어 구축하고, 이후에는 주기적으로 워터마크 이후에 생성된 행만 읽어 추가한다.
+ * 인덱스는 인스턴스마다 따로 있으므로 이 인스턴스와 다른 인스턴스가 저장한 행 모두 이 동기화로 반영된다.
+ *
+ * 워터마크는 created_at 기준이며 "동기화 시작 시각 - SYNC_LOOKBACK" 이다.
+ * 생성 시각보다 커밋이 늦거나 인스턴스 간 시계가 어긋날 수 있어 SYNC_LOOKBACK 만큼 겹쳐 다시 읽고,
+ * 겹친 구간에서 이미 색인한 행은 건너뛴다. (pooled sequence 로 id 와 커밋 순서가 달라도 누락되지 않음)
+ * 워터마크 이후에 생성된 행은 검색 시 LIKE 로 확인하므로 다음 동기화 전에도 검색된다.
+ **/
+@Slf4j
+@Component
+public class TodoTextIndexInitializer {
+
+    // 트랜잭션 지속 시간과 인스턴스 간 시계 차이의 상한
+    private static final Duration SYNC_LOOKBACK = Duration.ofMinutes(1);
+
+    private final TodoRepository todoRepository;
+    private final TodoTextIndex todoTextIndex;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    // 다음 동기화에서 다시 읽힐 (워터마크 이후에 생성된) 행 중 이미 색인한 행의 id -> 생성 시각
+    private final Map<Long, LocalDateTime> recentTodoIds = new HashMap<>();
+    private final Map<Long, LocalDateTime> recentManagerIds = new HashMap<>();
+    private LocalDateTime indexedBefore;
+
+    public TodoTextIndexInitializer(TodoRepository todoRepository,
+                                    TodoTextIndex todoTextIndex,
+                                    PlatformTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.todoTextIndex = todoTextIndex;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    // 구축 중에 저장된 행은 워터마크 이후 행이므로 LIKE 로 검색되고 다음 동기화에서 색인된다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        if (!todoTextIndex.isEnabled()) {
+            return;
+        }
+
+        indexNewRows();
+    }
+
+    @Scheduled(initialDelayString = "${todo.search.text-index.sync-interval-ms:10000}",
+            fixedDelayString = "${todo.search.text-index.sync-interval-ms:10000}")
+    public void syncNewRows() {
+        if (!todoTextIndex.isEnabled()) {
+            return;
+        }
+
+        indexNewRows();
+    }
+
+    private synchronized void indexNewRows() {
+        LocalDateTime since = indexedBefore; // 첫 구축이면 null (전체)
+        LocalDateTime nextIndexedBefore = LocalDateTime.now().minus(SYNC_LOOKBACK);
+
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TodoTextDocument> titles = todoRepository.streamTitlesCreatedSince(since)) {
+                titles.filter(document -> firstSeen(recentTodoIds, document, nextIndexedBefore))
+                        .forEach(document -> todoTextIndex.addTitle(document.getTodoId(), document.getText()));
+            }
+            try (Stream<TodoTextDocument> nicknames = todoRepository.streamManagerNicknamesCreatedSince(since)) {
+                nicknames.filter(document -> firstSeen(recentManagerIds, document, nextIndexedBefore))
+                        .forEach(document -> todoTextIndex.addManagerNickname(document.getTodoId(), document.getText()));
+            }
+        });
+
+        // 새 워터마크 이전 행은 다시 읽히지 않으므로 기록에서 제거
+        recentTodoIds.values().removeIf(createdAt -> createdAt.isBefore(nextIndexedBefore));
+        recentManagerIds.values().removeIf(createdAt -> createdAt.isBefore(nextIndexedBefore));
+        indexedBefore = nextIndexedBefore;
+        todoTextIndex.markIndexedBefore(nextIndexedBefore);
+    }
+
+    // 이전 동기화에서 이미 색인한 행이면 false, 다음 동기화에서 다시 읽힐 행이면 기록
+    private static boolean firstSeen(Map<Long, LocalDateTime> recentIds, TodoTextDocument document,
+                                     LocalDateTime nextIndexedBefore) {
+        if (recentIds.containsKey(document.getRowId())) {
+            return false;
+        }
+        LocalDateTime createdAt = document.getCreatedAt();
+        if (createdAt != null && !createdAt.isBefore(nextIndexedBefore)) {
+            recentIds.put(document.getRowId(), createdAt);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class TodoBatchService {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final boolean weatherAsyncEnrichment;
+    private final int chunkSize;
+
+    public TodoBatchService(TodoRepository todoRepository,
+                            WeatherClient weatherClient,
+                            TransactionTemplate transactionTemplate,
+                            Validator validator,
+                            @Value("${todo.weather.async-enrichment.enabled:false}") boolean weatherAsyncEnrichment,
+                            @Value("${todo.batch.chunk-size:500}") int chunkSize) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.weatherAsyncEnrichment = weatherAsyncEnrichment;
+        this.chunkSize = chunkSize;
+    }
+
+    // 날씨는 요청당 한 번만 조회하고, 유효한 항목만 chunkSize 단위 트랜잭션으로 나누어 JDBC 배치로 저장
+    // 한 청크가 실패해도 이미 커밋된 청크와 이후 청크는 영향을 받지 않는다.
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<TodoSaveRequest> requests = todoBatchSaveRequest.getTodos();
+        TodoBatchItemResponse[] results = new TodoBatchItemResponse[requests.size()];
+
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = TodoBatchItemResponse.failed(i, error);
+            }
+        }
+
+        String weather = validIndexes.isEmpty() ? null
+                : weatherAsyncEnrichment ? Todo.WEATHER_PENDING : weatherClient.getTodayWeather();
+
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            saveChunk(user, weather, requests, chunk, results);
+        }
+
+        int savedCount = (int) Arrays.stream(results).filter(result -> result.getId() != null).count();
+        return new TodoBatchSaveResponse(savedCount, results.length - savedCount, weather, Arrays.asList(results));
+    }
+
+    private void saveChunk(User user, String weather, List<TodoSaveRequest> requests, List<Integer> chunk,
+                           TodoBatchItemResponse[] results) {
+        List<Todo> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Todo> todos = new ArrayList<>(chunk.size());
+                for (int index : chunk) {
+                    TodoSaveRequest request = requests.get(index);
+                    todos.add(new Todo(request.getTitle(), request.getContents(), weather, user));
+                }
+                return todoRepository.saveAll(todos);
+            });
+        } catch (RuntimeException e) {
+            log.warn("todo 일괄 저장 청크 실패: userId={}, size={}", user.getId(), chunk.size(), e);
+            for (int index : chunk) {
+                results[index] = TodoBatchItemResponse.failed(index, "저장 중 오류가 발생했습니다.");
+            }
+            return;
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            results[chunk.get(i)] = TodoBatchItemResponse.saved(chunk.get(i), saved.get(i).getId());
+        }
+    }
+
+    private String validate(TodoSaveRequest request) {
+        if (request == null) {
+            return "요청 항목이 비어 있습니다.";
+        }
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
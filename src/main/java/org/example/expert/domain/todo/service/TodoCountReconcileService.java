@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoCountReconcileResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoCountReconcileService {
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 담당자 수, 댓글 수 카운터를 id 범위 단위로 다시 계산
+    // 청크마다 트랜잭션을 분리하여 한 번에 잡는 락 범위를 CHUNK_SIZE 행으로 제한
+    public TodoCountReconcileResponse reconcileCounts() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return new TodoCountReconcileResponse(0, 0);
+        }
+
+        long chunkCount = 0;
+        long updatedCount = 0;
+        for (long chunkStart = 1; chunkStart <= maxId; chunkStart += CHUNK_SIZE) {
+            long fromId = chunkStart;
+            long toId = chunkStart + CHUNK_SIZE - 1;
+            Integer updated = transactionTemplate.execute(status -> todoRepository.reconcileCounts(fromId, toId));
+
+            chunkCount++;
+            updatedCount += updated == null ? 0 : updated;
+        }
+
+        log.info("Todo 카운터 보정 완료: chunks={}, updated={}", chunkCount, updatedCount);
+        return new TodoCountReconcileResponse(chunkCount, updatedCount);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoBulkDeleteResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoDeleteService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TodoOwnerCache todoOwnerCache;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+
+    // 생성일 범위의 todo 를 CHUNK_SIZE 건씩 삭제 표시, 범위가 넓어도 각 청크의 커밋마다 행 락이 풀려 수정 요청이 오래 대기하지 않음
+    // 삭제 표시된 행은 다음 조회에서 제외되므로 항상 첫 청크를 다시 조회
+    public TodoBulkDeleteResponse deleteTodosCreatedBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("startDate 와 endDate 를 올바르게 입력해야 합니다.");
+        }
+
+        Cache todoCache = cacheManager.getCache(CacheConfig.TODO_CACHE);
+        long chunkCount = 0;
+        long deletedCount = 0;
+        while (true) {
+            List<Long> todoIds = todoRepository.findIdsByCreatedAtBetween(startDate, endDate, PageRequest.of(0, CHUNK_SIZE));
+            if (todoIds.isEmpty()) {
+                break;
+            }
+
+            Integer deleted = transactionTemplate.execute(status -> todoRepository.softDeleteAllByIdIn(todoIds));
+            for (Long todoId : todoIds) {
+                todoOwnerCache.evict(todoId);
+                if (todoCache != null) {
+                    todoCache.evict(todoId);
+                }
+            }
+
+            chunkCount++;
+            deletedCount += deleted == null ? 0 : deleted;
+        }
+
+        log.info("Todo 일괄 삭제 표시 완료: startDate={}, endDate={}, chunks={}, deleted={}",
+                startDate, endDate, chunkCount, deletedCount);
+        return new TodoBulkDeleteResponse(chunkCount, deletedCount);
+    }
+}
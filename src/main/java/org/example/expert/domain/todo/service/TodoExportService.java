@@ -0,0 +1,125 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    // 영속성 컨텍스트를 비우는 주기 (행 수와 상관없이 힙 사용량을 일정하게 유지)
+    private static final int CLEAR_INTERVAL = 1000;
+    private static final String CSV_HEADER = "id,title,contents,weather,userId,userEmail,createdAt,modifiedAt";
+
+    private final TodoRepository todoRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // 전체 todo 를 작성자와 함께 응답 스트림에 바로 기록
+    @Transactional(readOnly = true)
+    public void export(TodoExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        try (Stream<Todo> todos = todoRepository.streamAllWithUser()) {
+            if (format == TodoExportFormat.NDJSON) {
+                writeNdjson(todos.iterator(), writer);
+            } else {
+                writeCsv(todos.iterator(), writer);
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<Todo> todos, Writer writer) throws IOException {
+        SequenceWriter sequenceWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(writer);
+
+        int count = 0;
+        try (sequenceWriter) {
+            while (todos.hasNext()) {
+                sequenceWriter.write(toResponse(todos.next()));
+                clearIfNeeded(++count);
+            }
+        }
+
+        // 마지막 행도 줄바꿈으로 끝나도록
+        if (count > 0) {
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<Todo> todos, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        int count = 0;
+        while (todos.hasNext()) {
+            Todo todo = todos.next();
+            User user = todo.getUser();
+            writer.write(String.join(",",
+                    String.valueOf(todo.getId()),
+                    csv(todo.getTitle()),
+                    csv(todo.getContents()),
+                    csv(todo.getWeather()),
+                    String.valueOf(user.getId()),
+                    csv(user.getEmail()),
+                    csv(String.valueOf(todo.getCreatedAt())),
+                    csv(String.valueOf(todo.getModifiedAt()))
+            ));
+            writer.write('\n');
+            clearIfNeeded(++count);
+        }
+    }
+
+    private TodoResponse toResponse(Todo todo) {
+        User user = todo.getUser();
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(user.getId(), user.getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        );
+    }
+
+    private void clearIfNeeded(int count) {
+        if (count % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+        }
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
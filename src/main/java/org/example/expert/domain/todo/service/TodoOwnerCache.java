@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * todo id -> 작성자 id 캐시
+ * 담당자/댓글 쓰기의 권한, 존재 확인에 todo 행 전체 대신 작성자 id 한 컬럼만 조회하고 잠시 캐시한다.
+ * todo 의 작성자는 바뀌지 않으므로 삭제 시에만 무효화하면 되고, 없는 todo 는 캐시하지 않는다.
+ **/
+@Component
+public class TodoOwnerCache {
+
+    private final TodoRepository todoRepository;
+    private final Cache<Long, Long> ownerIds;
+
+    public TodoOwnerCache(TodoRepository todoRepository,
+                          @Value("${todo.owner-cache.max-size:10000}") long maxSize,
+                          @Value("${todo.owner-cache.ttl:30s}") Duration ttl) {
+        this.todoRepository = todoRepository;
+        this.ownerIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // todo 가 없으면 empty
+    public Optional<Long> findOwnerId(long todoId) {
+        return Optional.ofNullable(ownerIds.get(todoId, id -> todoRepository.findOwnerIdById(id).orElse(null)));
+    }
+
+    public boolean exists(long todoId) {
+        return findOwnerId(todoId).isPresent();
+    }
+
+    // 삭제가 커밋된 뒤에 무효화, 커밋 전에 다른 요청이 다시 캐시하는 것을 막음
+    public void evict(long todoId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ownerIds.invalidate(todoId);
+                }
+            });
+            return;
+        }
+        ownerIds.invalidate(todoId);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제 표시된 todo 와 그 댓글, 담당자를 실제로 삭제하는 작업
+ * cascade REMOVE 로 자식 엔티티를 모두 읽어 한 건씩 지우는 대신, id 청크 단위의 DELETE ... WHERE id IN (...) 으로 지운다.
+ * 청크마다 트랜잭션을 분리하므로 중간에 실패해도 다음 실행에서 남은 행부터 이어서 정리한다.
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todo.purge.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TodoPurgeWorker {
+
+    private static final int TODO_CHUNK_SIZE = 100;
+    private static final int CHILD_CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${todo.purge.interval-ms:60000}",
+            initialDelayString = "${todo.purge.interval-ms:60000}")
+    public void purgeDeletedTodos() {
+        long purgedTodos = 0;
+        long purgedComments = 0;
+        long purgedManagers = 0;
+        while (true) {
+            List<Long> todoIds = todoRepository.findDeletedIds(TODO_CHUNK_SIZE);
+            if (todoIds.isEmpty()) {
+                break;
+            }
+
+            purgedComments += deleteInChunks(
+                    pageable -> commentRepository.findIdsByTodoIdIn(todoIds, pageable),
+                    commentRepository::deleteAllByIdIn
+            );
+            purgedManagers += deleteInChunks(
+                    pageable -> managerRepository.findIdsByTodoIdIn(todoIds, pageable),
+                    managerRepository::deleteAllByIdIn
+            );
+            Integer purged = transactionTemplate.execute(status -> todoRepository.purgeDeleted(todoIds));
+            purgedTodos += purged == null ? 0 : purged;
+        }
+
+        if (purgedTodos > 0) {
+            log.info("삭제된 todo 정리 완료: todos={}, comments={}, managers={}", purgedTodos, purgedComments, purgedManagers);
+        }
+    }
+
+    // 자식 id 를 CHILD_CHUNK_SIZE 건씩 조회하여 청크마다 한 트랜잭션으로 삭제
+    private long deleteInChunks(Function<Pageable, List<Long>> idFinder, Function<List<Long>, Integer> deleter) {
+        Pageable firstChunk = PageRequest.of(0, CHILD_CHUNK_SIZE);
+        long deletedCount = 0;
+        while (true) {
+            List<Long> ids = idFinder.apply(firstChunk);
+            if (ids.isEmpty()) {
+                return deletedCount;
+            }
+
+            Integer deleted = transactionTemplate.execute(status -> deleter.apply(ids));
+            deletedCount += deleted == null ? 0 : deleted;
+        }
+    }
+}
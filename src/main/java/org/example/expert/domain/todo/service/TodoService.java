@@ -1,10 +1,14 @@
 package org.example.expert.domain.todo.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.config.CacheConfig;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -13,11 +17,17 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -26,12 +36,19 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoOwnerCache todoOwnerCache;
 
-    @Transactional
+    @Value("${todo.weather.async-enrichment.enabled:false}")
+    private boolean weatherAsyncEnrichment;
+
+    // 외부 날씨 API 호출 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 날씨를 먼저 조회하고,
+    // todo 와 작성자 담당자 저장은 save() 의 트랜잭션 하나로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // 비동기 보강 모드에서는 PENDING 으로 저장하고 백그라운드 작업이 채움
+        String weather = weatherAsyncEnrichment ? Todo.WEATHER_PENDING : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -54,19 +71,34 @@ public class TodoService {
                                        LocalDateTime endDate) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findByConditions(weather, startDate, endDate, pageable);
+        return todoRepository.findByConditions(weather, startDate, endDate, pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size, String weather,
+                                                        LocalDateTime startDate, LocalDateTime endDate) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회 (count 쿼리 없음)
+        List<TodoResponse> contents = todoRepository.findByConditionsAfterCursor(
+                weather, startDate, endDate, TodoCursor.decode(cursor), size + 1);
+
+        boolean hasNext = contents.size() > size;
+        if (hasNext) {
+            contents = contents.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = contents.get(contents.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new CursorResponse<>(contents, nextCursor);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TODO_CACHE, key = "#todoId")
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -84,6 +116,21 @@ public class TodoService {
         );
     }
 
+    // 삭제 표시만 하고 바로 응답, 댓글/담당자와 실제 행은 TodoPurgeWorker 가 청크 단위로 삭제
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_CACHE, key = "#todoId")
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoOwnerCache.findOwnerId(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 만든 유저만 삭제할 수 있습니다.");
+        }
+
+        todoRepository.softDeleteAllByIdIn(List.of(todoId));
+        todoOwnerCache.evict(todoId);
+    }
+
     public Page<TodoSearchResponse> searchTodos(String title, LocalDateTime startDate, LocalDateTime endDate,
                                                 String nickname, Pageable pageable) {
 
@@ -91,4 +138,11 @@ public class TodoService {
         return todoRepository.searchTodos(title, startDate, endDate, nickname, pageable);
 
     }
+
+    public Slice<TodoSearchResponse> searchTodosSlice(String title, LocalDateTime startDate, LocalDateTime endDate,
+                                                      String nickname, Pageable pageable) {
+
+        // 전체 개수 없이 다음 페이지 존재 여부만 반환
+        return todoRepository.searchTodosSlice(title, startDate, endDate, nickname, pageable);
+    }
 }
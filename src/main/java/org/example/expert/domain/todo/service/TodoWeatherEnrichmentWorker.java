@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 날씨 보강 모드에서 PENDING 상태로 저장된 todo 의 날씨를 배치로 채우는 작업
+ * 날씨는 todo 생성일 기준으로 조회하며, 날짜별로 한 번의 UPDATE 로 반영한다.
+ *
+ * 날씨 조회에 실패한 날짜는 retryDelay 동안 건너뛰고, 다음 실행은 이번에 읽은 마지막 id 이후부터 읽는다.
+ * 실패한 날짜의 todo 가 앞쪽에 남아 있어도 뒤쪽 todo 의 보강이 막히지 않는다.
+ **/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todo.weather.async-enrichment.enabled", havingValue = "true")
+public class TodoWeatherEnrichmentWorker {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final Duration retryDelay;
+
+    // 날씨 조회에 실패한 날짜 -> 다시 시도할 시각
+    private final Map<LocalDate, Instant> retryAfterByDate = new ConcurrentHashMap<>();
+    // 다음 실행에서 읽기 시작할 위치, 끝까지 읽으면 처음(0)부터 다시
+    private long lastScannedId;
+
+    public TodoWeatherEnrichmentWorker(TodoRepository todoRepository,
+                                       WeatherClient weatherClient,
+                                       TransactionTemplate transactionTemplate,
+                                       CacheManager cacheManager,
+                                       @Value("${todo.weather.async-enrichment.retry-delay:5m}") Duration retryDelay) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.retryDelay = retryDelay;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.async-enrichment.interval-ms:5000}")
+    public void enrichPendingWeather() {
+        List<Todo> pendingTodos = todoRepository.findByWeatherAndIdGreaterThanOrderByIdAsc(
+                Todo.WEATHER_PENDING, lastScannedId, PageRequest.of(0, BATCH_SIZE));
+        lastScannedId = pendingTodos.size() < BATCH_SIZE ? 0L : pendingTodos.get(pendingTodos.size() - 1).getId();
+        if (pendingTodos.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        retryAfterByDate.values().removeIf(retryAfter -> !retryAfter.isAfter(now));
+
+        // 외부 호출은 트랜잭션 밖에서 날짜별로 한 번씩만
+        Map<LocalDate, List<Long>> todoIdsByDate = pendingTodos.stream()
+                .collect(Collectors.groupingBy(
+                        todo -> todo.getCreatedAt().toLocalDate(),
+                        Collectors.mapping(Todo::getId, Collectors.toList())
+                ));
+
+        Cache todoCache = cacheManager.getCache(CacheConfig.TODO_CACHE);
+        int enrichedCount = 0;
+        for (Map.Entry<LocalDate, List<Long>> entry : todoIdsByDate.entrySet()) {
+            LocalDate date = entry.getKey();
+            List<Long> todoIds = entry.getValue();
+            if (retryAfterByDate.containsKey(date)) {
+                continue;
+            }
+
+            // 한 날짜의 실패가 다른 날짜의 보강을 막지 않도록 날짜 단위로 처리
+            try {
+                String weather = weatherClient.getWeather(date);
+                transactionTemplate.executeWithoutResult(status ->
+                        todoRepository.updatePendingWeather(todoIds, weather, Todo.WEATHER_PENDING));
+            } catch (RuntimeException e) {
+                retryAfterByDate.put(date, now.plus(retryDelay));
+                log.warn("날씨 보강 실패, {} 후 다시 시도합니다: date={}, size={}, cause={}",
+                        retryDelay, date, todoIds.size(), e.getMessage());
+                continue;
+            }
+
+            if (todoCache != null) {
+                todoIds.forEach(todoCache::evict);
+            }
+            enrichedCount += todoIds.size();
+        }
+
+        log.debug("날씨 보강 완료: {}/{}건", enrichedCount, pendingTodos.size());
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.dto.response;
 
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
 @Getter
@@ -8,6 +9,7 @@ public class UserResponse {
     private final Long id;
     private final String email;
 
+    @QueryProjection // QUserResponse 생성
     public UserResponse(Long id, String email) {
         this.id = id;
         this.email = email;
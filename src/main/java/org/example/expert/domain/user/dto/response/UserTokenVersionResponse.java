@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserTokenVersionResponse {
+
+    private final Long userId;
+    private final long tokenVersion;
+
+    public UserTokenVersionResponse(Long userId, long tokenVersion) {
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+    }
+}
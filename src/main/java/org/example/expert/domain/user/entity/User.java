@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
@@ -13,7 +14,9 @@ import org.example.expert.domain.user.enums.UserRole;
 @Table(name = "users")
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq_generator")
+    @SequenceGenerator(name = "users_seq_generator", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     @Column(unique = true)
     private String email;
@@ -21,6 +24,10 @@ public class User extends Timestamped {
     private String nickname;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 권한/비밀번호 변경 시 증가, 이보다 낮은 버전으로 발급된 토큰은 폐기됨
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long tokenVersion;
 
     public User(String email, String password, String nickname, UserRole userRole) {
         this.email = email;
@@ -47,4 +54,8 @@ public class User extends Timestamped {
     public void updateRole(UserRole userRole) {
         this.userRole = userRole;
     }
+
+    public void revokeTokens() {
+        this.tokenVersion++;
+    }
 }
@@ -1,11 +1,38 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.response.UserTokenVersionResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 읽은 뒤 다른 요청이 비밀번호를 바꿨다면 덮어쓰지 않도록 기존 해시가 그대로일 때만 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :currentPassword")
+    int updatePassword(@Param("userId") Long userId,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
+
+    // 비밀번호 변경과 함께 기존 토큰 폐기 (토큰 버전 증가)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword, u.tokenVersion = u.tokenVersion + 1 " +
+            "WHERE u.id = :userId AND u.password = :currentPassword")
+    int changePasswordAndRevokeTokens(@Param("userId") Long userId,
+                                      @Param("currentPassword") String currentPassword,
+                                      @Param("newPassword") String newPassword);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserTokenVersionResponse(u.id, u.tokenVersion) " +
+            "FROM User u WHERE u.tokenVersion > 0")
+    List<UserTokenVersionResponse> findRevokedTokenVersions();
 }
@@ -1,13 +1,15 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.example.expert.config.PasswordHashingExecutor;
+import org.example.expert.config.TokenRevocationRegistry;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -16,29 +18,37 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // 해싱 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 검증/해싱 후 조건부 UPDATE 로 변경
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        if (!passwordHashingExecutor.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
-            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        // 기존 비밀번호가 검증되었으므로 새 비밀번호가 기존과 같은지는 평문 비교로 충분
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordHashingExecutor.encode(userChangePasswordRequest.getNewPassword());
+        if (userRepository.changePasswordAndRevokeTokens(user.getId(), user.getPassword(), encodedPassword) == 0) {
+            throw new InvalidRequestException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
+        }
+        // 비밀번호 변경 전에 발급된 토큰 폐기
+        tokenRevocationRegistry.revoke(user.getId(), user.getTokenVersion() + 1);
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
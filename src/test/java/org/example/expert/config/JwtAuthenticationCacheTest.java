@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.example.expert.config.JwtAuthenticationCache.VerifiedToken;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final JwtAuthenticationCache jwtAuthenticationCache = new JwtAuthenticationCache(100);
+    private final VerifiedToken verifiedToken = new VerifiedToken(
+            new AuthUser(1L, "cache@test.com", "cache", UserRole.ROLE_USER), 0L);
+
+    @Test
+    void 같은_토큰이면_검증_결과를_돌려주고_다른_토큰은_조회되지_않는다() {
+        // given
+        jwtAuthenticationCache.put(TOKEN, verifiedToken, expiresIn(60_000));
+
+        // when & then
+        assertThat(jwtAuthenticationCache.get(TOKEN)).isSameAs(verifiedToken);
+        assertThat(jwtAuthenticationCache.get(TOKEN + "x")).isNull();
+    }
+
+    @Test
+    void 토큰_원문은_캐시_키로_보관하지_않는다() {
+        // given
+        jwtAuthenticationCache.put(TOKEN, verifiedToken, expiresIn(60_000));
+
+        // when
+        Cache<?, ?> cache = (Cache<?, ?>) ReflectionTestUtils.getField(jwtAuthenticationCache, "cache");
+
+        // then
+        assertThat(cache.asMap()).hasSize(1);
+        assertThat(cache.asMap().keySet()).noneMatch(key -> key.toString().contains(TOKEN));
+    }
+
+    @Test
+    void 만료된_토큰과_exp_가_없는_토큰은_조회되지_않는다() {
+        // given
+        jwtAuthenticationCache.put(TOKEN, verifiedToken, expiresIn(-1_000));
+        jwtAuthenticationCache.put("no-exp", verifiedToken, null);
+
+        // when & then
+        assertThat(jwtAuthenticationCache.get(TOKEN)).isNull();
+        assertThat(jwtAuthenticationCache.get("no-exp")).isNull();
+    }
+
+    private Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+}
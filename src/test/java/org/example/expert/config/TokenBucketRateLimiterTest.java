@@ -0,0 +1,111 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    // 분당 60개 = 1초에 1개씩 충전
+    private static final int REFILL_PER_MINUTE = 60;
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    @Test
+    void 용량만큼_허용한_뒤에는_거부한다() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(3, REFILL_PER_MINUTE, 100, 1, now::get);
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("1.1.1.1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("1.1.1.1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("1.1.1.1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("1.1.1.1")).isFalse();
+        // 다른 키는 별도의 버킷을 사용
+        assertThat(rateLimiter.tryAcquire("2.2.2.2")).isTrue();
+    }
+
+    @Test
+    void 지난_시간에_비례해_토큰이_충전된다() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, REFILL_PER_MINUTE, 100, 1, now::get);
+        rateLimiter.tryAcquire("key");
+        rateLimiter.tryAcquire("key");
+
+        // when & then: 0.5초 뒤에는 아직 1개가 되지 않음
+        advance(500);
+        assertThat(rateLimiter.tryAcquire("key")).isFalse();
+
+        // 거부된 요청도 충전 시각을 옮기지만 누적된 0.5개는 유지되므로 0.5초 뒤 1개
+        advance(500);
+        assertThat(rateLimiter.tryAcquire("key")).isTrue();
+        assertThat(rateLimiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 오래_쉬어도_용량_이상으로_충전되지_않는다() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, REFILL_PER_MINUTE, 100, 1, now::get);
+        rateLimiter.tryAcquire("key");
+
+        // when
+        advance(TimeUnit.MINUTES.toMillis(10));
+
+        // then
+        assertThat(rateLimiter.tryAcquire("key")).isTrue();
+        assertThat(rateLimiter.tryAcquire("key")).isTrue();
+        assertThat(rateLimiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 키_개수가_상한을_넘으면_가장_오래_사용되지_않은_버킷을_버린다() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, REFILL_PER_MINUTE, 2, 1, now::get);
+        rateLimiter.tryAcquire("a");
+        rateLimiter.tryAcquire("b");
+        // a 를 다시 사용하여 b 가 가장 오래 사용되지 않은 버킷이 됨
+        assertThat(rateLimiter.tryAcquire("a")).isFalse();
+
+        // when
+        rateLimiter.tryAcquire("c");
+
+        // then: b 만 버려져 새 버킷으로 시작하고, a 는 여전히 제한됨
+        assertThat(rateLimiter.size()).isEqualTo(2);
+        assertThat(rateLimiter.tryAcquire("a")).isFalse();
+        assertThat(rateLimiter.tryAcquire("b")).isTrue();
+    }
+
+    @Test
+    void 가득_찰_만큼_쉰_버킷만_정리한다() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, REFILL_PER_MINUTE, 100, 4, now::get);
+        rateLimiter.tryAcquire("idle-1");
+        rateLimiter.tryAcquire("idle-2");
+        advance(1_500);
+        rateLimiter.tryAcquire("active");
+
+        // when: idle 버킷은 2초(가득 참), active 버킷은 0.5초 쉰 상태
+        advance(500);
+        int evicted = rateLimiter.evictIdle();
+
+        // then
+        assertThat(evicted).isEqualTo(2);
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 설정값이_1_미만이면_생성할_수_없다() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, REFILL_PER_MINUTE, 100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(1, REFILL_PER_MINUTE, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
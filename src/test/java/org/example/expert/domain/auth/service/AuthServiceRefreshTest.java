@@ -0,0 +1,160 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.TokenRevocationRegistry;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 재사용 감지 시 family 폐기가 예외 후에도 커밋되는지 확인해야 하므로 테스트 트랜잭션으로 감싸지 않고 직접 정리
+@SpringBootTest
+class AuthServiceRefreshTest {
+
+    private static final String PASSWORD = "Password1";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String email;
+    private String signupRefreshToken;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        email = "refresh-" + UUID.randomUUID() + "@test.com";
+        signupRefreshToken = authService.signup(new SignupRequest(email, PASSWORD, "refresh", "ROLE_USER"))
+                .getRefreshToken();
+        userId = userRepository.findByEmail(email).orElseThrow().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll(refreshTokensOfUser());
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void 재발급에_사용한_리프레시_토큰은_다시_사용할_수_없다() {
+        // given
+        String rotated = refresh(signupRefreshToken);
+
+        // when & then
+        assertThat(rotated).isNotEqualTo(signupRefreshToken);
+        assertThatThrownBy(() -> refresh(signupRefreshToken))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+    }
+
+    @Test
+    void 재사용이_감지되면_예외와_함께_같은_로그인의_토큰을_모두_폐기하고_커밋한다() {
+        // given: 같은 로그인(family)의 최신 토큰과 다른 로그인의 토큰
+        String latest = refresh(refresh(signupRefreshToken));
+        String otherSession = authService.signin(new SigninRequest(email, PASSWORD)).getRefreshToken();
+        // 회원가입 때 시작된 family 만 재발급에 사용되었음
+        String signupFamilyId = refreshTokensOfUser().stream()
+                .filter(RefreshToken::isUsed)
+                .map(RefreshToken::getFamilyId)
+                .findFirst()
+                .orElseThrow();
+
+        // when
+        assertThatThrownBy(() -> refresh(signupRefreshToken)).isInstanceOf(AuthException.class);
+
+        // then: 예외로 롤백되지 않고 family 행이 모두 삭제되어 최신 토큰도 거절됨
+        assertThat(refreshTokensOfUser()).extracting(RefreshToken::getFamilyId)
+                .isNotEmpty()
+                .doesNotContain(signupFamilyId);
+        assertThatThrownBy(() -> refresh(latest))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("유효하지 않은 리프레시 토큰입니다.");
+        // 다른 로그인의 토큰은 영향 없음
+        assertThat(refresh(otherSession)).isNotNull();
+    }
+
+    @Test
+    void jti_가_없는_리프레시_토큰은_거절된다() {
+        // given: 서명과 사용자 정보는 유효하지만 저장된 행과 연결할 jti 가 없는 토큰
+        String withoutJti = jwtUtil.createRefreshToken(userId, 0L, null, new Date(System.currentTimeMillis() + 60_000));
+
+        // when & then
+        assertThatThrownBy(() -> refresh(withoutJti))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("유효하지 않은 리프레시 토큰입니다.");
+    }
+
+    @Test
+    void 권한이_바뀌면_이전에_발급된_리프레시_토큰은_거절된다() {
+        // when
+        userAdminService.changeUserRole(userId, new UserRoleChangeRequest("ROLE_ADMIN"));
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(userId, 0L)).isTrue();
+        assertThatThrownBy(() -> refresh(signupRefreshToken))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("폐기된 토큰입니다. 다시 로그인해주세요.");
+    }
+
+    @Test
+    void 비밀번호가_바뀌면_이전에_발급된_리프레시_토큰은_거절되고_새로_로그인한_토큰은_사용할_수_있다() {
+        // when
+        userService.changePassword(userId, new UserChangePasswordRequest(PASSWORD, "Password2"));
+        String afterChange = authService.signin(new SigninRequest(email, "Password2")).getRefreshToken();
+
+        // then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(tokenRevocationRegistry.isRevoked(userId, user.getTokenVersion() - 1)).isTrue();
+        assertThatThrownBy(() -> refresh(signupRefreshToken))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("폐기된 토큰입니다. 다시 로그인해주세요.");
+        assertThat(refresh(afterChange)).isNotNull();
+    }
+
+    private String refresh(String refreshToken) {
+        return authService.refresh(new RefreshTokenRequest(refreshToken)).getRefreshToken();
+    }
+
+    private List<RefreshToken> refreshTokensOfUser() {
+        return refreshTokenRepository.findAll().stream()
+                .filter(token -> token.getUserId().equals(userId))
+                .toList();
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentServiceCursorTest extends PersistenceTestSupport {
+
+    @Autowired
+    private CommentService commentService;
+
+    private Todo todo;
+    private long todoId;
+    private final List<Long> expectedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = persistUser("comment-cursor");
+        todo = persistTodo(user, "title");
+        Todo otherTodo = persistTodo(user, "other");
+
+        // 다른 todo 의 댓글을 사이사이에 섞어 저장
+        for (int i = 0; i < 5; i++) {
+            expectedIds.add(persistComment(user, todo, "comment" + i).getId());
+            persistComment(user, otherTodo, "other" + i);
+        }
+        flushAndClear();
+        todoId = todo.getId();
+    }
+
+    @Test
+    void 커서를_따라가면_해당_todo_의_댓글만_id_순서대로_조회된다() {
+        // given
+        List<Long> visitedIds = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+
+        // when
+        while (true) {
+            CursorResponse<CommentResponse> response = commentService.getCommentsByCursor(todoId, cursor, 2);
+            response.getContents().forEach(comment -> visitedIds.add(comment.getId()));
+            pages++;
+            if (!response.isHasNext()) {
+                break;
+            }
+            cursor = Long.valueOf(response.getNextCursor());
+        }
+
+        // then
+        assertThat(visitedIds).containsExactlyElementsOf(expectedIds);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void 남은_건수가_limit_와_같으면_다음_페이지가_없다() {
+        // when
+        CursorResponse<CommentResponse> response = commentService.getCommentsByCursor(todoId, null, expectedIds.size());
+
+        // then
+        assertThat(response.getContents()).extracting(CommentResponse::getId).containsExactlyElementsOf(expectedIds);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 남은_건수가_limit_보다_많으면_limit_건만_반환하고_마지막_id_를_커서로_준다() {
+        // when
+        CursorResponse<CommentResponse> response = commentService.getCommentsByCursor(todoId, null, expectedIds.size() - 1);
+
+        // then
+        assertThat(response.getContents()).hasSize(expectedIds.size() - 1);
+        assertThat(response.getNextCursor()).isEqualTo(String.valueOf(expectedIds.get(expectedIds.size() - 2)));
+
+        CursorResponse<CommentResponse> last = commentService.getCommentsByCursor(
+                todoId, Long.valueOf(response.getNextCursor()), 10);
+        assertThat(last.getContents()).extracting(CommentResponse::getId)
+                .containsExactly(expectedIds.get(expectedIds.size() - 1));
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 마지막_댓글_이후의_커서는_빈_페이지를_돌려준다() {
+        // when
+        CursorResponse<CommentResponse> response = commentService.getCommentsByCursor(
+                todoId, expectedIds.get(expectedIds.size() - 1), 10);
+
+        // then
+        assertThat(response.getContents()).isEmpty();
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 삭제_표시된_todo_의_댓글은_조회하지_않는다() {
+        // given
+        markDeleted(todo);
+
+        // when
+        List<CommentResponse> comments = commentService.getComments(todoId);
+        CursorResponse<CommentResponse> page = commentService.getCommentsByCursor(todoId, null, 10);
+
+        // then
+        assertThat(comments).isEmpty();
+        assertThat(page.getContents()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 101})
+    void limit_가_범위를_벗어나면_예외가_발생한다(int limit) {
+        assertThatThrownBy(() -> commentService.getCommentsByCursor(todoId, null, limit))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
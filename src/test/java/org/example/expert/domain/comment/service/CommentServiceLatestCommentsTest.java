@@ -0,0 +1,116 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentServiceLatestCommentsTest extends PersistenceTestSupport {
+
+    @Autowired
+    private CommentService commentService;
+
+    private Todo busyTodo;
+    private Todo quietTodo;
+    private Todo emptyTodo;
+    private final List<Long> busyCommentIds = new ArrayList<>();
+    private final List<Long> quietCommentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = persistUser("latest");
+        busyTodo = persistTodo(user, "busy");
+        quietTodo = persistTodo(user, "quiet");
+        emptyTodo = persistTodo(user, "empty");
+
+        for (int i = 0; i < 6; i++) {
+            busyCommentIds.add(persistComment(user, busyTodo, "busy" + i).getId());
+            if (i < 2) {
+                quietCommentIds.add(persistComment(user, quietTodo, "quiet" + i).getId());
+            }
+        }
+        flushAndClear();
+
+        // 최신순 (id DESC)
+        Collections.reverse(busyCommentIds);
+        Collections.reverse(quietCommentIds);
+    }
+
+    @Test
+    void todo_마다_최근_댓글을_size_건까지만_최신순으로_조회한다() {
+        // when
+        Map<Long, List<CommentResponse>> result = commentService.getLatestComments(
+                List.of(busyTodo.getId(), quietTodo.getId()), 3);
+
+        // then: 댓글이 많은 todo 는 size 건으로 잘리고, 적은 todo 는 있는 만큼만
+        assertThat(result.get(busyTodo.getId())).extracting(CommentResponse::getId)
+                .containsExactlyElementsOf(busyCommentIds.subList(0, 3));
+        assertThat(result.get(quietTodo.getId())).extracting(CommentResponse::getId)
+                .containsExactlyElementsOf(quietCommentIds);
+    }
+
+    @Test
+    void 요청한_todo_id_순서대로_중복_없이_묶고_댓글이_없거나_없는_todo_는_빈_목록이다() {
+        // given
+        long missingTodoId = -1L;
+
+        // when
+        Map<Long, List<CommentResponse>> result = commentService.getLatestComments(
+                List.of(emptyTodo.getId(), missingTodoId, busyTodo.getId(), emptyTodo.getId()), 1);
+
+        // then
+        assertThat(result.keySet()).containsExactly(emptyTodo.getId(), missingTodoId, busyTodo.getId());
+        assertThat(result.get(emptyTodo.getId())).isEmpty();
+        assertThat(result.get(missingTodoId)).isEmpty();
+        assertThat(result.get(busyTodo.getId())).extracting(CommentResponse::getId)
+                .containsExactly(busyCommentIds.get(0));
+    }
+
+    @Test
+    void 삭제_표시된_todo_의_댓글은_빈_목록이다() {
+        // given
+        markDeleted(busyTodo);
+
+        // when
+        Map<Long, List<CommentResponse>> result = commentService.getLatestComments(
+                List.of(busyTodo.getId(), quietTodo.getId()), 3);
+
+        // then
+        assertThat(result.get(busyTodo.getId())).isEmpty();
+        assertThat(result.get(quietTodo.getId())).extracting(CommentResponse::getId)
+                .containsExactlyElementsOf(quietCommentIds);
+    }
+
+    @Test
+    void todoIds_가_비었거나_100_개를_넘으면_예외가_발생한다() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThatThrownBy(() -> commentService.getLatestComments(List.of(), 1))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> commentService.getLatestComments(tooMany, 1))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void size_가_1_에서_20_사이가_아니면_예외가_발생한다() {
+        List<Long> todoIds = List.of(busyTodo.getId());
+
+        assertThatThrownBy(() -> commentService.getLatestComments(todoIds, 0))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> commentService.getLatestComments(todoIds, 21))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
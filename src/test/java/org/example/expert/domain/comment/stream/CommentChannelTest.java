@@ -0,0 +1,108 @@
+package org.example.expert.domain.comment.stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentChannelTest {
+
+    @Test
+    void Last_Event_ID_이후의_이벤트만_순서대로_다시_보낸다() {
+        // given
+        CommentChannel channel = new CommentChannel(4);
+        appendEvents(channel, 3);
+
+        // when
+        long cursor = channel.resolveCursor(channel.eventId(1));
+        List<CommentChannel.Frame> frames = channel.framesAfter(cursor);
+
+        // then
+        assertThat(cursor).isEqualTo(1L);
+        assertThat(frames).extracting(CommentChannel.Frame::seq).containsExactly(2L, 3L);
+        assertThat(serialized(frames.get(0))).contains("id:" + channel.eventId(2)).contains("comment-2");
+    }
+
+    @Test
+    void 링_버퍼가_한_바퀴_돌아도_남아_있는_범위는_이어받을_수_있다() {
+        // given: 크기 4 버퍼에 10 건, 버퍼에는 7 ~ 10 이 남아 있음
+        CommentChannel channel = new CommentChannel(4);
+        appendEvents(channel, 10);
+
+        // when
+        long cursor = channel.resolveCursor(channel.eventId(6));
+        List<CommentChannel.Frame> frames = channel.framesAfter(cursor);
+
+        // then
+        assertThat(frames).extracting(CommentChannel.Frame::seq).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(serialized(frames.get(3))).contains("id:" + channel.eventId(10));
+    }
+
+    @Test
+    void 버퍼_밖으로_밀려난_이벤트_id_는_이어받을_수_없다() {
+        // given
+        CommentChannel channel = new CommentChannel(4);
+        appendEvents(channel, 10);
+
+        // then
+        assertThat(channel.resolveCursor(channel.eventId(5))).isEqualTo(-1L);
+        assertThat(channel.framesAfter(5)).isNull();
+    }
+
+    @Test
+    void 최신_이벤트_id_로_이어받으면_다시_보낼_이벤트가_없다() {
+        // given
+        CommentChannel channel = new CommentChannel(4);
+        appendEvents(channel, 2);
+
+        // when
+        long cursor = channel.resolveCursor(channel.eventId(2));
+
+        // then
+        assertThat(cursor).isEqualTo(2L);
+        assertThat(channel.framesAfter(cursor)).isEmpty();
+    }
+
+    @Test
+    void 다른_채널이나_형식이_잘못된_이벤트_id_는_이어받을_수_없다() {
+        // given
+        CommentChannel channel = new CommentChannel(4);
+        CommentChannel recreated = new CommentChannel(4);
+        appendEvents(channel, 3);
+        appendEvents(recreated, 3);
+
+        // then: 채널이 다시 만들어지면 epoch 가 달라 seq 가 같아도 이어받지 않음
+        assertThat(channel.resolveCursor(recreated.eventId(2))).isEqualTo(-1L);
+        assertThat(channel.resolveCursor(null)).isEqualTo(-1L);
+        assertThat(channel.resolveCursor(channel.eventId(1).replace("-1", "-abc"))).isEqualTo(-1L);
+        // 아직 발행되지 않은 seq
+        assertThat(channel.resolveCursor(channel.eventId(4))).isEqualTo(-1L);
+    }
+
+    @Test
+    void 구독자가_없고_일정_시간_활동이_없으면_정리_대상이다() {
+        // given
+        CommentChannel channel = new CommentChannel(4);
+        long now = System.currentTimeMillis();
+
+        // then
+        assertThat(channel.isIdle(now, 60_000)).isFalse();
+        assertThat(channel.isIdle(now + 60_000, 60_000)).isTrue();
+    }
+
+    private void appendEvents(CommentChannel channel, int count) {
+        for (int i = 1; i <= count; i++) {
+            channel.append("comment", "{\"contents\":\"comment-" + i + "\"}");
+        }
+    }
+
+    private String serialized(CommentChannel.Frame frame) {
+        StringBuilder builder = new StringBuilder();
+        for (DataWithMediaType data : frame.data()) {
+            builder.append(data.getData());
+        }
+        return builder.toString();
+    }
+}
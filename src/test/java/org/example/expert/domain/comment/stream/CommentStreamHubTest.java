@@ -0,0 +1,152 @@
+package org.example.expert.domain.comment.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class CommentStreamHubTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int POOL_SIZE = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new CommentStreamHub(new ObjectMapper(), meterRegistry, BUFFER_SIZE, 100,
+                Duration.ofMinutes(30), Duration.ofMinutes(2), POOL_SIZE, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void 소켓_쓰기가_막힌_구독자는_발행_시점에_끊고_다른_구독자는_계속_받는다() throws InterruptedException {
+        // given: todo 1, 2 에 쓰기가 막히는 구독자, todo 1, 3 에 정상 구독자
+        RecordingEmitter stalled = new RecordingEmitter(true);
+        RecordingEmitter otherStalled = new RecordingEmitter(true);
+        RecordingEmitter sameTodo = new RecordingEmitter(false);
+        RecordingEmitter otherTodo = new RecordingEmitter(false);
+        hub.subscribe(1L, null, stalled);
+        hub.subscribe(2L, null, otherStalled);
+        hub.subscribe(1L, null, sameTodo);
+        hub.subscribe(3L, null, otherTodo);
+
+        // 두 구독자의 전송 스레드가 첫 이벤트를 쓰다가 막힘
+        hub.publish(1L, comment(1));
+        hub.publish(2L, comment(1));
+        assertThat(stalled.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(otherStalled.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 막힌 구독자가 버퍼 크기보다 많이 밀리도록 발행, 발행 스레드는 막힌 emitter 를 기다리지 않음
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 2; i <= BUFFER_SIZE + 2; i++) {
+                hub.publish(1L, comment(i));
+            }
+            hub.publish(3L, comment(1));
+        });
+
+        // then
+        assertThat(sameTodo.awaitFrames(BUFFER_SIZE + 2)).isTrue();
+        assertThat(otherTodo.awaitFrames(1)).isTrue();
+        assertThat(meterRegistry.counter("comment.stream.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("comment.stream.subscribers").gauge().value()).isEqualTo(3.0);
+
+        // 막혔던 쓰기가 끝나면 남은 이벤트를 보내지 않고 연결을 닫음
+        stalled.release.countDown();
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled.frames.get()).isEqualTo(1);
+        assertThat(otherStalled.completed.getCount()).isEqualTo(1);
+        otherStalled.release.countDown();
+    }
+
+    @Test
+    void 쓰기가_막히지_않은_구독자는_버퍼_크기보다_많이_발행해도_모두_받는다() throws InterruptedException {
+        // given
+        RecordingEmitter subscriber = new RecordingEmitter(false);
+        hub.subscribe(1L, null, subscriber);
+
+        // when
+        for (int i = 1; i <= BUFFER_SIZE * 3; i++) {
+            hub.publish(1L, comment(i));
+            assertThat(subscriber.awaitFrames(i)).isTrue();
+        }
+
+        // then
+        assertThat(meterRegistry.counter("comment.stream.dropped").count()).isZero();
+        assertThat(subscriber.completed.getCount()).isEqualTo(1);
+    }
+
+    private static CommentResponse comment(long id) {
+        return new CommentResponse(id, "comment-" + id, new UserResponse(1L, "user@example.com"));
+    }
+
+    // 실제 emitter 처럼 send 와 complete 가 같은 락을 쓰고, blocking 이면 release 전까지 이벤트 쓰기가 막힘
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final boolean blocking;
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final AtomicInteger frames = new AtomicInteger();
+
+        RecordingEmitter(boolean blocking) {
+            this.blocking = blocking;
+        }
+
+        // 연결 직후의 connected/heartbeat 주석
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+        }
+
+        // 링 버퍼의 댓글 이벤트 프레임
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            sendStarted.countDown();
+            if (blocking) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.incrementAndGet();
+        }
+
+        @Override
+        public synchronized void complete() {
+            super.complete();
+            completed.countDown();
+        }
+
+        boolean awaitFrames(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (frames.get() < expected) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                Thread.sleep(10);
+            }
+            return true;
+        }
+    }
+}
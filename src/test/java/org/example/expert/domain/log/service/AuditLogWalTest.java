@@ -0,0 +1,268 @@
+package org.example.expert.domain.log.service;
+
+import org.example.expert.domain.log.service.AuditLogWal.AuditLogEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditLogWalTest {
+
+    private static final long SEGMENT_BYTES = 1024 * 1024;
+    private static final LocalDateTime REQUESTED_AT = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 마지막_체크포인트_이후의_기록만_복구한다() throws IOException {
+        // given
+        AuditLogWal wal = openRecovered();
+        wal.append(REQUESTED_AT, "saved");
+        wal.append(REQUESTED_AT, "tab\tand\nnewline");
+        wal.append(REQUESTED_AT, "한글 로그");
+        wal.checkpoint(1);
+        wal.close();
+
+        // when
+        List<AuditLogEntry> recovered = open().recover();
+
+        // then
+        assertThat(recovered).extracting(AuditLogEntry::seq).containsExactly(2L, 3L);
+        assertThat(recovered).extracting(AuditLogEntry::contents).containsExactly("tab\tand\nnewline", "한글 로그");
+        assertThat(recovered.get(0).requestedAt()).isEqualTo(REQUESTED_AT);
+    }
+
+    @Test
+    void 기록_도중_잘린_마지막_줄은_버리고_이후_기록이_이어_붙지_않는다() throws IOException {
+        // given
+        AuditLogWal wal = openRecovered();
+        wal.append(REQUESTED_AT, "first");
+        wal.append(REQUESTED_AT, "second");
+        wal.close();
+        Files.writeString(onlySegment(), "E\t3\t2024-09-01T12:", StandardOpenOption.APPEND);
+
+        // when
+        AuditLogWal recoveredWal = open();
+        List<AuditLogEntry> recovered = recoveredWal.recover();
+        long nextSeq = recoveredWal.append(REQUESTED_AT, "third");
+        recoveredWal.close();
+
+        // then
+        assertThat(recovered).extracting(AuditLogEntry::contents).containsExactly("first", "second");
+        assertThat(nextSeq).isEqualTo(3L);
+        assertThat(open().recover()).extracting(AuditLogEntry::contents).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void 줄바꿈이_하나도_없는_잘린_파일은_비운다() throws IOException {
+        // given
+        Files.writeString(directory.resolve("audit.wal.1"), "E\t1\t2024-09-01T12:00\tYWJj");
+
+        // when
+        AuditLogWal wal = open();
+        List<AuditLogEntry> recovered = wal.recover();
+
+        // then
+        assertThat(recovered).isEmpty();
+        assertThat(wal.append(REQUESTED_AT, "next")).isEqualTo(1L);
+    }
+
+    @Test
+    void 손상된_줄은_건너뛰고_나머지를_복구한다() throws IOException {
+        // given
+        String valid = "E\t2\t" + REQUESTED_AT + "\tb2s=\n";
+        Files.writeString(directory.resolve("audit.wal.1"),
+                "E\t1\tnot-a-date\tb2s=\n" + "garbage\n" + "E\tx\t" + REQUESTED_AT + "\tb2s=\n" + valid);
+
+        // when
+        List<AuditLogEntry> recovered = open().recover();
+
+        // then
+        assertThat(recovered).extracting(AuditLogEntry::seq).containsExactly(2L);
+        assertThat(recovered).extracting(AuditLogEntry::contents).containsExactly("ok");
+    }
+
+    @Test
+    void 세그먼트를_넘기며_기록하고_모두_저장된_세그먼트는_삭제한다() throws IOException {
+        // given: 한 세그먼트에 몇 건만 들어가도록 작게 설정
+        AuditLogWal wal = new AuditLogWal(directory.resolve("audit.wal"), 100);
+        wal.recover();
+        for (int i = 1; i <= 20; i++) {
+            wal.append(REQUESTED_AT, "log-" + i);
+        }
+        int segmentsBefore = segmentFiles().size();
+
+        // when
+        wal.checkpoint(15);
+
+        // then
+        assertThat(segmentsBefore).isGreaterThan(3);
+        assertThat(segmentFiles()).hasSizeLessThan(segmentsBefore);
+        assertThat(segmentFiles()).hasSize(wal.segmentCount());
+        wal.close();
+
+        List<AuditLogEntry> recovered = open().recover();
+        assertThat(recovered).extracting(AuditLogEntry::seq).containsExactly(16L, 17L, 18L, 19L, 20L);
+    }
+
+    @Test
+    void 체크포인트가_마지막_기록을_따라잡으면_이전_세그먼트를_지우고_현재_세그먼트를_비운다() throws IOException {
+        // given
+        AuditLogWal wal = new AuditLogWal(directory.resolve("audit.wal"), 100);
+        wal.recover();
+        for (int i = 1; i <= 10; i++) {
+            wal.append(REQUESTED_AT, "log-" + i);
+        }
+
+        // when
+        wal.checkpoint(10);
+        wal.close();
+
+        // then
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(Files.size(segmentFiles().get(0))).isZero();
+        AuditLogWal reopened = open();
+        assertThat(reopened.recover()).isEmpty();
+        // 비운 뒤에 기록한 로그만 복구됨
+        reopened.append(REQUESTED_AT, "after");
+        reopened.close();
+        assertThat(open().recover()).extracting(AuditLogEntry::contents).containsExactly("after");
+    }
+
+    @Test
+    void 체크포인트만_남은_세그먼트는_재시작_후에도_같은_파일에_이어_쓴다() throws IOException {
+        // given: 복구 후 기록 없이 체크포인트만 남기고 종료
+        AuditLogWal wal = openRecovered();
+        wal.append(REQUESTED_AT, "a");
+        wal.append(REQUESTED_AT, "b");
+        wal.close();
+        AuditLogWal second = open();
+        second.recover();
+        second.checkpoint(1);
+        second.close();
+
+        // when
+        AuditLogWal third = open();
+        List<AuditLogEntry> recovered = third.recover();
+        third.append(REQUESTED_AT, "c");
+        third.checkpoint(2);
+        third.close();
+
+        // then
+        assertThat(recovered).extracting(AuditLogEntry::contents).containsExactly("b");
+        assertThat(open().recover()).extracting(AuditLogEntry::contents).containsExactly("c");
+    }
+
+    @Test
+    void 동시에_기다리는_기록은_fsync_후_모두_풀려난다() throws Exception {
+        // given
+        AuditLogWal wal = openRecovered();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String contents = "log-" + i;
+            futures.add(executor.submit(() -> {
+                long seq;
+                synchronized (wal) {
+                    seq = wal.append(REQUESTED_AT, contents);
+                }
+                wal.awaitDurable(seq);
+                return seq;
+            }));
+        }
+        List<Long> seqs = new ArrayList<>();
+        for (Future<Long> future : futures) {
+            seqs.add(future.get());
+        }
+        executor.shutdown();
+        wal.close();
+
+        // then
+        assertThat(seqs).doesNotHaveDuplicates().hasSize(200);
+        assertThat(open().recover()).hasSize(200);
+    }
+
+    @Test
+    void fsync_중_인터럽트되면_실패로_알리고_세그먼트를_다시_열어_이후_기록을_이어_간다() throws IOException {
+        // given
+        AuditLogWal wal = openRecovered();
+        long seq = wal.append(REQUESTED_AT, "interrupted");
+
+        // when: 인터럽트된 스레드의 fsync 는 FileChannel 을 닫음
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> wal.awaitDurable(seq)).isInstanceOf(ClosedByInterruptException.class);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue(); // 인터럽트 상태는 호출자에게 그대로 남음
+        }
+        long nextSeq = wal.append(REQUESTED_AT, "next");
+        wal.awaitDurable(nextSeq);
+        wal.close();
+
+        // then
+        assertThat(open().recover()).extracting(AuditLogEntry::contents).containsExactly("interrupted", "next");
+    }
+
+    @Test
+    void 기록_중_인터럽트되면_실패로_알리고_다음_기록은_같은_seq_로_이어_쓴다() throws IOException {
+        // given
+        AuditLogWal wal = openRecovered();
+        wal.append(REQUESTED_AT, "first");
+
+        // when
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> wal.append(REQUESTED_AT, "interrupted")).isInstanceOf(ClosedByInterruptException.class);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+        long nextSeq = wal.append(REQUESTED_AT, "next");
+        wal.awaitDurable(nextSeq);
+        wal.close();
+
+        // then
+        assertThat(nextSeq).isEqualTo(2);
+        assertThat(open().recover()).extracting(AuditLogEntry::contents).containsExactly("first", "next");
+    }
+
+    private AuditLogWal open() throws IOException {
+        return new AuditLogWal(directory.resolve("audit.wal"), SEGMENT_BYTES);
+    }
+
+    // 기록하기 전에 항상 복구부터 수행 (AuditLogWriter 와 같은 순서)
+    private AuditLogWal openRecovered() throws IOException {
+        AuditLogWal wal = open();
+        wal.recover();
+        return wal;
+    }
+
+    private Path onlySegment() throws IOException {
+        List<Path> segments = segmentFiles();
+        assertThat(segments).hasSize(1);
+        return segments.get(0);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("audit.wal.")).toList();
+        }
+    }
+}
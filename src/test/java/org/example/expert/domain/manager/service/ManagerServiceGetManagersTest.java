@@ -0,0 +1,104 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManagerServiceGetManagersTest extends PersistenceTestSupport {
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    private User owner;
+    private User member;
+    private Todo sharedTodo;
+    private Todo soloTodo;
+    private Manager memberManager;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("owner");
+        member = persistUser("member");
+
+        // 작성자는 담당자로 함께 등록됨
+        sharedTodo = persistTodo(owner, "shared");
+        soloTodo = persistTodo(owner, "solo");
+        memberManager = persistManager(member, sharedTodo);
+        flushAndClear();
+    }
+
+    @Test
+    void 여러_todo_의_담당자를_요청한_todo_id_순서대로_묶어_조회한다() {
+        // when
+        Map<Long, List<ManagerResponse>> result = managerService.getManagers(
+                List.of(soloTodo.getId(), sharedTodo.getId()));
+
+        // then
+        assertThat(result.keySet()).containsExactly(soloTodo.getId(), sharedTodo.getId());
+        assertThat(result.get(soloTodo.getId())).extracting(response -> response.getUser().getId())
+                .containsExactly(owner.getId());
+        // todo 안에서는 담당자 id 순
+        assertThat(result.get(sharedTodo.getId())).extracting(response -> response.getUser().getId())
+                .containsExactly(owner.getId(), member.getId());
+        assertThat(result.get(sharedTodo.getId()).get(1).getId()).isEqualTo(memberManager.getId());
+    }
+
+    @Test
+    void 중복된_todo_id_는_한_번만_조회하고_없는_todo_는_빈_목록이다() {
+        // given
+        long missingTodoId = -1L;
+
+        // when
+        Map<Long, List<ManagerResponse>> result = managerService.getManagers(
+                List.of(sharedTodo.getId(), missingTodoId, sharedTodo.getId()));
+
+        // then
+        assertThat(result.keySet()).containsExactly(sharedTodo.getId(), missingTodoId);
+        assertThat(result.get(sharedTodo.getId())).hasSize(2);
+        assertThat(result.get(missingTodoId)).isEmpty();
+    }
+
+    @Test
+    void 삭제_표시된_todo_의_담당자는_빈_목록이다() {
+        // given
+        markDeleted(sharedTodo);
+
+        // when
+        Map<Long, List<ManagerResponse>> result = managerService.getManagers(
+                List.of(sharedTodo.getId(), soloTodo.getId()));
+
+        // then: todo 하나의 담당자 조회 쿼리에서도 제외
+        assertThat(result.get(sharedTodo.getId())).isEmpty();
+        assertThat(result.get(soloTodo.getId())).hasSize(1);
+        assertThat(managerRepository.findManagers(sharedTodo.getId())).isEmpty();
+    }
+
+    @Test
+    void todoIds_가_비었거나_100_개를_넘으면_예외가_발생한다() {
+        List<Long> maxTodoIds = LongStream.rangeClosed(1, 100).boxed().toList();
+        List<Long> tooMany = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThat(managerService.getManagers(maxTodoIds)).hasSize(100);
+        assertThatThrownBy(() -> managerService.getManagers(List.of()))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> managerService.getManagers(tooMany))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
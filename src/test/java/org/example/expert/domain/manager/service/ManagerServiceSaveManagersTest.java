@@ -0,0 +1,166 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.expert.domain.manager.service.ManagerServiceSaveManagersTest$RecordingStatementInspector")
+class ManagerServiceSaveManagersTest extends PersistenceTestSupport {
+
+    @Autowired
+    private ManagerService managerService;
+
+    private User owner;
+    private User assigned;
+    private Todo todo;
+    private AuthUser ownerAuth;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("batch-owner");
+        assigned = persistUser("batch-assigned");
+        todo = persistTodo(owner, "batch");
+        persistManager(assigned, todo);
+        flushAndClear();
+        ownerAuth = new AuthUser(owner.getId(), owner.getEmail(), owner.getNickname(), owner.getUserRole());
+    }
+
+    // 로그는 AuditLogWriter 가 따로 저장하므로 요청 처리 중 SQL 에 포함되지 않음
+    @Test
+    void 담당자_40_명을_SQL_문장_6_개_이하로_한_번에_등록한다() {
+        // given
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            userIds.add(persistUser("batch-member" + i).getId());
+        }
+        flushAndClear();
+        RecordingStatementInspector.start();
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(ownerAuth, todo.getId(),
+                new ManagerBatchSaveRequest(userIds));
+        em.flush();
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // then
+        assertThat(responses).extracting(response -> response.getUser().getId())
+                .containsExactlyElementsOf(userIds);
+
+        // 작성자 확인, 대상 유저 IN 조회, 기존 담당자 IN 조회, 카운터 증가, 배치 INSERT 각 1 번
+        // 시퀀스는 allocationSize(50) 단위로 가져오므로 40 건에 최대 1 번
+        List<String> sequenceCalls = statements.stream().filter(sql -> sql.contains("next value for")).toList();
+        List<String> otherStatements = statements.stream().filter(sql -> !sql.contains("next value for")).toList();
+        assertThat(sequenceCalls).hasSizeLessThanOrEqualTo(1);
+        assertThat(otherStatements).hasSize(5);
+        assertThat(otherStatements.get(0)).startsWith("select t1_0.user_id from todos");
+        assertThat(otherStatements.get(1)).contains("from users").contains(" in (");
+        assertThat(otherStatements.get(2)).contains("from managers").contains(" in (");
+        assertThat(otherStatements.get(3)).startsWith("update todos");
+        assertThat(otherStatements.get(4)).startsWith("insert into managers");
+
+        em.clear();
+        assertThat(em.find(Todo.class, todo.getId()).getManagerCount()).isEqualTo(41);
+    }
+
+    @Test
+    void 중복된_유저_id_가_있으면_거절한다() {
+        long duplicatedUserId = userId("dup");
+        assertRejected(List.of(duplicatedUserId, userId("dup-other"), duplicatedUserId), "중복된 담당자 유저 id 가 있습니다.");
+    }
+
+    @Test
+    void 일정_작성자_본인은_담당자로_지정할_수_없다() {
+        assertRejected(List.of(userId("self-other"), owner.getId()), "일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+    }
+
+    @Test
+    void 존재하지_않는_유저가_있으면_없는_id_를_알려주고_전체를_거절한다() {
+        long missingUserId = -1L;
+        assertRejected(List.of(userId("missing-other"), missingUserId),
+                "등록하려고 하는 담당자 유저가 존재하지 않습니다. id = [" + missingUserId + "]");
+    }
+
+    @Test
+    void 이미_담당자로_등록된_유저가_있으면_해당_id_를_알려주고_전체를_거절한다() {
+        assertRejected(List.of(userId("assigned-other"), assigned.getId()),
+                "이미 담당자로 등록된 유저가 있습니다. id = [" + assigned.getId() + "]");
+    }
+
+    @Test
+    void 일정_작성자가_아니면_거절한다() {
+        // given
+        AuthUser assignedAuth = new AuthUser(assigned.getId(), assigned.getEmail(), assigned.getNickname(),
+                assigned.getUserRole());
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(List.of(userId("not-owner-other")));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(assignedAuth, todo.getId(), request))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+    }
+
+    private long userId(String nickname) {
+        User user = persistUser(nickname);
+        flushAndClear();
+        return user.getId();
+    }
+
+    // 하나라도 유효하지 않으면 담당자를 저장하지 않고 카운터도 그대로
+    private void assertRejected(List<Long> managerUserIds, String message) {
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(managerUserIds);
+
+        assertThatThrownBy(() -> managerService.saveManagers(ownerAuth, todo.getId(), request))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage(message);
+
+        em.flush();
+        em.clear();
+        Long managerCount = em.createQuery("SELECT COUNT(m) FROM Manager m WHERE m.todo.id = :todoId", Long.class)
+                .setParameter("todoId", todo.getId())
+                .getSingleResult();
+        assertThat(managerCount).isEqualTo(2);
+        assertThat(em.find(Todo.class, todo.getId()).getManagerCount()).isEqualTo(1); // persistManager 는 카운터를 올리지 않음
+    }
+
+    // 측정 구간 동안 현재 스레드에서 실행한 SQL 을 기록
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+        static void start() {
+            RECORDED.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> recorded = RECORDED.get();
+            RECORDED.remove();
+            return recorded;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = RECORDED.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+}
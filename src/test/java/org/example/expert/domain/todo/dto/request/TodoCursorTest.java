@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.dto.request;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoCursorTest {
+
+    @Test
+    void 커서를_인코딩한_뒤_디코딩하면_같은_위치를_가리킨다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 30, 15, 123_456_000);
+        TodoCursor cursor = new TodoCursor(modifiedAt, 42L);
+
+        // when
+        TodoCursor decoded = TodoCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getModifiedAt()).isEqualTo(modifiedAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void 인코딩된_커서는_URL_safe_문자만_사용한다() {
+        // given
+        TodoCursor cursor = new TodoCursor(LocalDateTime.of(2024, 9, 1, 0, 0), Long.MAX_VALUE);
+
+        // when
+        String encoded = cursor.encode();
+
+        // then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void 빈_커서는_첫_페이지로_간주하여_null_을_반환한다(String cursor) {
+        assertThat(TodoCursor.decode(cursor)).isNull();
+    }
+
+    @Test
+    void Base64_가_아닌_커서는_예외가_발생한다() {
+        assertThatThrownBy(() -> TodoCursor.decode("!!not-base64!!"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-09-01T12:30:15",        // 구분자 없음
+            "2024-09-01T12:30:15|",       // id 없음
+            "|42",                        // 시각 없음
+            "2024-09-01T12:30:15|abc",    // id 가 숫자가 아님
+            "2024-13-01T12:30:15|42",     // 존재하지 않는 날짜
+            "yesterday|42"
+    })
+    void 변조되거나_형식이_잘못된_커서는_예외가_발생한다(String raw) {
+        // given
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> TodoCursor.decode(cursor))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+}
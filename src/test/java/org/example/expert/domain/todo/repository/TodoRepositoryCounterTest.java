@@ -0,0 +1,59 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoRepositoryCounterTest extends PersistenceTestSupport {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private Todo todo;
+    private Todo otherTodo;
+
+    @BeforeEach
+    void setUp() {
+        User user = persistUser("counter");
+        todo = persistTodo(user, "title");
+        otherTodo = persistTodo(user, "other");
+        flushAndClear();
+    }
+
+    @Test
+    void 담당자_수는_저장된_값에_delta_만큼_더해지고_다른_todo_는_바뀌지_않는다() {
+        // when
+        int updated = todoRepository.increaseManagerCount(todo.getId(), 2);
+        todoRepository.increaseManagerCount(todo.getId(), -1);
+        em.clear();
+
+        // then: 작성자 1 명으로 시작
+        assertThat(updated).isEqualTo(1);
+        assertThat(em.find(Todo.class, todo.getId()).getManagerCount()).isEqualTo(2);
+        assertThat(em.find(Todo.class, otherTodo.getId()).getManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 댓글_수는_저장된_값에_delta_만큼_더해지고_다른_todo_는_바뀌지_않는다() {
+        // when
+        int updated = todoRepository.increaseCommentCount(todo.getId(), 1);
+        todoRepository.increaseCommentCount(todo.getId(), 1);
+        em.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(em.find(Todo.class, todo.getId()).getCommentCount()).isEqualTo(2);
+        assertThat(em.find(Todo.class, otherTodo.getId()).getCommentCount()).isZero();
+    }
+
+    @Test
+    void 없는_todo_의_카운터는_갱신되지_않는다() {
+        assertThat(todoRepository.increaseManagerCount(-1L, 1)).isZero();
+        assertThat(todoRepository.increaseCommentCount(-1L, 1)).isZero();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+// count 쿼리는 실행기 스레드의 별도 트랜잭션에서 실행되므로 테스트 트랜잭션으로 감싸지 않음
+@SpringBootTest
+class TodoRepositoryParallelCountTest {
+
+    @Autowired
+    private TodoRepositoryQueryImpl todoRepositoryQuery;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoRepositoryQuery, "parallelCountEnabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(todoRepositoryQuery, "parallelCountEnabled", false);
+    }
+
+    @Test
+    void 병렬_count_가_목록_쿼리보다_늦게_끝나도_count_를_기다려_페이지를_만든다() {
+        // 두 번째 페이지가 비어 있으면 content 로 전체 개수를 알 수 없어 count 결과를 기다림
+        // 검색어마다 캐시 키가 달라 매번 병렬 count 를 새로 시작
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (int i = 0; i < 200; i++) {
+                Page<TodoSearchResponse> page = todoRepositoryQuery.searchTodos(
+                        "no-match-" + i, null, null, null, PageRequest.of(1, 10));
+
+                assertThat(page.getContent()).isEmpty();
+                assertThat(page.getTotalElements()).isZero();
+            }
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.expert.domain.todo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingListTest {
+
+    @Test
+    void 오름차순으로_추가한_id_를_그대로_돌려준다() {
+        // given
+        PostingList postingList = new PostingList();
+        long[] ids = {1L, 2L, 127L, 128L, 16_384L, 1L << 35, Long.MAX_VALUE};
+
+        // when
+        for (long id : ids) {
+            postingList.add(id);
+        }
+
+        // then (varint 경계인 7, 14 bit 와 큰 간격도 손실 없이 복원)
+        assertThat(postingList.toArray()).containsExactly(ids);
+        assertThat(postingList.size()).isEqualTo(ids.length);
+    }
+
+    @Test
+    void 순서가_어긋나거나_중복된_id_는_정렬_후_중복_없이_병합된다() {
+        // given
+        PostingList postingList = new PostingList();
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        // when (버퍼가 여러 번 병합되도록 충분히 추가)
+        for (int i = 0; i < 5_000; i++) {
+            long id = 1 + random.nextInt(3_000);
+            postingList.add(id);
+            expected.add(id);
+        }
+
+        // then
+        assertThat(postingList.toArray()).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    @Test
+    void 마지막_id_와_같은_id_는_무시한다() {
+        // given
+        PostingList postingList = new PostingList();
+
+        // when
+        postingList.add(10L);
+        postingList.add(10L);
+
+        // then
+        assertThat(postingList.size()).isEqualTo(1);
+        assertThat(postingList.toArray()).containsExactly(10L);
+    }
+
+    @Test
+    void 양수가_아닌_id_는_추가할_수_없다() {
+        PostingList postingList = new PostingList();
+
+        assertThatThrownBy(() -> postingList.add(0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void retainAll_은_블록과_버퍼_양쪽에서_교집합을_구한다() {
+        // given: 1000 이하 짝수는 블록, 뒤늦게 들어온 홀수 일부는 버퍼에 있음
+        PostingList postingList = new PostingList();
+        for (long id = 2; id <= 1_000; id += 2) {
+            postingList.add(id);
+        }
+        postingList.add(7L);
+        postingList.add(501L);
+
+        // when
+        long[] retained = postingList.retainAll(new long[]{1L, 2L, 7L, 8L, 9L, 501L, 1_000L, 1_002L});
+
+        // then
+        assertThat(retained).containsExactly(2L, 7L, 8L, 501L, 1_000L);
+    }
+
+    @Test
+    void retainAll_결과는_toArray_로_구한_교집합과_같다() {
+        // given
+        Random random = new Random(7);
+        PostingList postingList = new PostingList();
+        List<Long> shuffled = new ArrayList<>();
+        for (long id = 1; id <= 20_000; id += 1 + random.nextInt(5)) {
+            shuffled.add(id);
+        }
+        Collections.shuffle(shuffled, random);
+        shuffled.forEach(postingList::add);
+
+        long[] probe = new TreeSet<>(random.longs(500, 1, 25_000).boxed().toList())
+                .stream().mapToLong(Long::longValue).toArray();
+
+        // when
+        long[] retained = postingList.retainAll(probe);
+
+        // then
+        TreeSet<Long> all = new TreeSet<>(shuffled);
+        long[] expected = Arrays.stream(probe).filter(all::contains).toArray();
+        assertThat(retained).containsExactly(expected);
+    }
+
+    @Test
+    void 빈_목록과의_교집합은_비어_있다() {
+        PostingList postingList = new PostingList();
+
+        assertThat(postingList.retainAll(new long[]{1L, 2L})).isEmpty();
+        assertThat(postingList.toArray()).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.domain.todo.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoTextIndexTest {
+
+    private static final LocalDateTime INDEXED_BEFORE = LocalDateTime.of(2024, 9, 1, 0, 0);
+
+    private TodoTextIndex todoTextIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoTextIndex = new TodoTextIndex(true);
+        todoTextIndex.addTitle(1L, "Weekly report");
+        todoTextIndex.addTitle(2L, "Monthly report");
+        todoTextIndex.addTitle(3L, "Weekly meeting");
+        todoTextIndex.addTitle(4L, "Café 리포트 작성");
+        todoTextIndex.addManagerNickname(1L, "홍길동");
+        todoTextIndex.addManagerNickname(3L, "길동무");
+        todoTextIndex.markIndexedBefore(INDEXED_BEFORE);
+    }
+
+    @Test
+    void 검색어의_모든_3gram_을_포함하는_todo_만_후보가_된다() {
+        // when
+        TodoTextIndex.Candidates candidates = todoTextIndex.findTitleCandidates("ly rep");
+
+        // then
+        assertThat(candidates.todoIds()).containsExactly(1L, 2L);
+        assertThat(candidates.indexedBefore()).isEqualTo(INDEXED_BEFORE);
+    }
+
+    @Test
+    void 대소문자와_악센트를_구분하지_않고_한글도_검색된다() {
+        assertThat(todoTextIndex.findTitleCandidates("WEEKLY").todoIds()).containsExactly(1L, 3L);
+        assertThat(todoTextIndex.findTitleCandidates("cafe").todoIds()).containsExactly(4L);
+        assertThat(todoTextIndex.findTitleCandidates("리포트").todoIds()).containsExactly(4L);
+        assertThat(todoTextIndex.findManagerNicknameCandidates("길동무").todoIds()).containsExactly(3L);
+    }
+
+    @Test
+    void 색인에_없는_3gram_이_있으면_빈_후보를_돌려준다() {
+        TodoTextIndex.Candidates candidates = todoTextIndex.findTitleCandidates("weekly plan");
+
+        assertThat(candidates.todoIds()).isEmpty();
+        assertThat(candidates.indexedBefore()).isEqualTo(INDEXED_BEFORE);
+    }
+
+    @Test
+    void 검색어가_3글자_미만이면_인덱스를_쓰지_않는다() {
+        assertThat(todoTextIndex.findTitleCandidates("we")).isNull();
+        assertThat(todoTextIndex.findManagerNicknameCandidates("길동")).isNull();
+    }
+
+    @Test
+    void 초기_구축_전이나_비활성화_상태에서는_인덱스를_쓰지_않는다() {
+        // given
+        TodoTextIndex notReady = new TodoTextIndex(true);
+        notReady.addTitle(1L, "Weekly report");
+        TodoTextIndex disabled = new TodoTextIndex(false);
+        disabled.addTitle(1L, "Weekly report");
+        disabled.markIndexedBefore(INDEXED_BEFORE);
+
+        // then
+        assertThat(notReady.findTitleCandidates("weekly")).isNull();
+        assertThat(disabled.findTitleCandidates("weekly")).isNull();
+    }
+
+    @Test
+    void 가장_짧은_posting_list_가_후보_상한을_넘으면_인덱스를_쓰지_않는다() {
+        // given
+        for (long id = 10; id < 1_100; id++) {
+            todoTextIndex.addTitle(id, "common title " + id);
+        }
+
+        // then
+        assertThat(todoTextIndex.findTitleCandidates("common")).isNull();
+        assertThat(todoTextIndex.findTitleCandidates("common title 1050").todoIds()).containsExactly(1_050L);
+    }
+}
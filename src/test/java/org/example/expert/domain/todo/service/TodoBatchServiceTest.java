@@ -0,0 +1,147 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.Validator;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크마다 커밋되는지 확인해야 하므로 테스트 트랜잭션으로 감싸지 않고 직접 정리
+@SpringBootTest
+class TodoBatchServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TodoBatchService todoBatchService;
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        // 외부 날씨 API 를 호출하지 않도록 비동기 보강 모드(PENDING 저장), 청크 경계를 확인하기 위해 작은 청크 크기
+        todoBatchService = new TodoBatchService(todoRepository, weatherClient, transactionTemplate, validator,
+                true, CHUNK_SIZE);
+        User user = userRepository.save(
+                new User("batch-" + UUID.randomUUID() + "@test.com", "password", "batch", UserRole.ROLE_USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllById(savedTodoIds());
+        userRepository.deleteById(authUser.getId());
+    }
+
+    @Test
+    void 검증에_실패한_항목만_실패로_응답하고_나머지_항목은_저장한다() {
+        // given
+        List<TodoSaveRequest> requests = Arrays.asList(
+                new TodoSaveRequest("title0", "contents"),
+                new TodoSaveRequest(" ", "contents"),
+                null,
+                new TodoSaveRequest("title3", ""),
+                new TodoSaveRequest("title4", "contents")
+        );
+
+        // when
+        TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, new TodoBatchSaveRequest(requests));
+
+        // then
+        assertThat(response.getSavedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getWeather()).isEqualTo(Todo.WEATHER_PENDING);
+
+        List<TodoBatchItemResponse> results = response.getResults();
+        assertThat(results).extracting(TodoBatchItemResponse::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results.get(0).getId()).isNotNull();
+        assertThat(results.get(1).getId()).isNull();
+        assertThat(results.get(1).getError()).startsWith("title: ");
+        assertThat(results.get(2).getError()).isEqualTo("요청 항목이 비어 있습니다.");
+        assertThat(results.get(3).getError()).startsWith("contents: ");
+        assertThat(results.get(4).getId()).isNotNull();
+        assertThat(savedTodoIds()).containsExactlyInAnyOrder(results.get(0).getId(), results.get(4).getId());
+    }
+
+    @Test
+    void 모든_항목이_검증에_실패하면_날씨를_조회하지_않고_저장하지_않는다() {
+        // given
+        List<TodoSaveRequest> requests = List.of(new TodoSaveRequest("", ""));
+
+        // when
+        TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, new TodoBatchSaveRequest(requests));
+
+        // then
+        assertThat(response.getSavedCount()).isZero();
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(response.getWeather()).isNull();
+        assertThat(response.getResults().get(0).getError()).contains("contents: ", "title: ");
+        assertThat(savedTodoIds()).isEmpty();
+    }
+
+    @Test
+    void 저장에_실패한_청크의_항목만_실패로_응답하고_다른_청크는_커밋된다() {
+        // given: 검증은 통과하지만 title 컬럼 길이(255)를 넘어 INSERT 가 실패하는 항목을 두 번째 청크에 포함
+        String tooLongTitle = "t".repeat(256);
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("title0", "contents"),
+                new TodoSaveRequest("title1", "contents"),
+                new TodoSaveRequest("title2", "contents"),
+                new TodoSaveRequest(tooLongTitle, "contents"),
+                new TodoSaveRequest("title4", "contents")
+        );
+
+        // when
+        TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, new TodoBatchSaveRequest(requests));
+
+        // then: 청크 [0, 1], [2, 3], [4] 중 두 번째 청크 전체만 실패
+        assertThat(response.getSavedCount()).isEqualTo(3);
+        assertThat(response.getFailedCount()).isEqualTo(2);
+
+        List<TodoBatchItemResponse> results = response.getResults();
+        assertThat(results.get(2).getError()).isEqualTo("저장 중 오류가 발생했습니다.");
+        assertThat(results.get(3).getError()).isEqualTo("저장 중 오류가 발생했습니다.");
+        assertThat(savedTodoIds()).containsExactlyInAnyOrder(
+                results.get(0).getId(), results.get(1).getId(), results.get(4).getId());
+    }
+
+    private List<Long> savedTodoIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM todos WHERE user_id = ?", Long.class, authUser.getId());
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoCountReconcileResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoCountReconcileServiceTest extends PersistenceTestSupport {
+
+    @Autowired
+    private TodoCountReconcileService todoCountReconcileService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    void 어긋난_담당자_수와_댓글_수를_실제_행_수로_다시_계산한다() {
+        // given: 엔티티를 직접 저장하여 카운터 증가 없이 담당자 2 명, 댓글 3 건을 추가
+        User owner = persistUser("reconcile-owner");
+        User member = persistUser("reconcile-member");
+        Todo busyTodo = persistTodo(owner, "busy");
+        Todo driftedTodo = persistTodo(owner, "drifted");
+        persistManager(member, busyTodo);
+        for (int i = 0; i < 3; i++) {
+            persistComment(member, busyTodo, "comment" + i);
+        }
+        flushAndClear();
+        todoRepository.increaseManagerCount(driftedTodo.getId(), 5);
+        todoRepository.increaseCommentCount(driftedTodo.getId(), 5);
+
+        // when
+        TodoCountReconcileResponse response = todoCountReconcileService.reconcileCounts();
+        em.clear();
+
+        // then
+        Todo reconciledBusy = em.find(Todo.class, busyTodo.getId());
+        Todo reconciledDrifted = em.find(Todo.class, driftedTodo.getId());
+        assertThat(reconciledBusy.getManagerCount()).isEqualTo(2);
+        assertThat(reconciledBusy.getCommentCount()).isEqualTo(3);
+        assertThat(reconciledDrifted.getManagerCount()).isEqualTo(1);
+        assertThat(reconciledDrifted.getCommentCount()).isZero();
+        assertThat(response.getUpdatedCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void id_범위를_1000_건_단위_청크로_나누어_보정한다() {
+        // given
+        User owner = persistUser("reconcile-chunk");
+        Todo todo = persistTodo(owner, "title");
+        flushAndClear();
+        long maxId = todoRepository.findMaxId();
+
+        // when
+        TodoCountReconcileResponse response = todoCountReconcileService.reconcileCounts();
+
+        // then
+        assertThat(maxId).isGreaterThanOrEqualTo(todo.getId());
+        assertThat(response.getChunkCount()).isEqualTo((maxId + 999) / 1000);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoBulkDeleteResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoDeleteServiceTest extends PersistenceTestSupport {
+
+    // 다른 테스트가 저장한 todo 와 겹치지 않는 과거 생성일 범위
+    private static final LocalDateTime START = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2000, 1, 31, 0, 0);
+
+    @Autowired
+    private TodoDeleteService todoDeleteService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("delete-owner");
+    }
+
+    @Test
+    void 생성일_범위의_todo_만_삭제_표시하고_자식_행은_정리_작업에_남긴다() {
+        // given
+        User member = persistUser("delete-member");
+        Todo inRange = persistTodo(owner, "in-range");
+        Todo outOfRange = persistTodo(owner, "out-of-range");
+        persistManager(member, inRange);
+        persistComment(member, inRange, "comment");
+        updateCreatedAt(List.of(inRange.getId()), START.plusDays(1));
+        updateCreatedAt(List.of(outOfRange.getId()), END.plusDays(1));
+        flushAndClear();
+
+        // when
+        TodoBulkDeleteResponse response = todoDeleteService.deleteTodosCreatedBetween(START, END);
+        em.clear();
+
+        // then
+        assertThat(response.getChunkCount()).isEqualTo(1);
+        assertThat(response.getDeletedCount()).isEqualTo(1);
+        assertThat(todoRepository.findById(inRange.getId())).isEmpty();
+        assertThat(todoRepository.findById(outOfRange.getId())).isPresent();
+
+        // 행은 삭제 표시만 되어 TodoPurgeWorker 가 지울 때까지 남음
+        assertThat(countRows("SELECT COUNT(*) FROM todos WHERE id = ?1 AND deleted = true", inRange.getId())).isEqualTo(1);
+        assertThat(countRows("SELECT COUNT(*) FROM managers WHERE todo_id = ?1", inRange.getId())).isEqualTo(2);
+        assertThat(countRows("SELECT COUNT(*) FROM comments WHERE todo_id = ?1", inRange.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void 범위의_todo_를_1000_건_단위_청크로_나누어_삭제_표시한다() {
+        // given
+        List<Long> todoIds = new ArrayList<>();
+        for (int i = 0; i < 1_001; i++) {
+            todoIds.add(persistTodo(owner, "chunk" + i).getId());
+        }
+        updateCreatedAt(todoIds, START.plusDays(1));
+        flushAndClear();
+
+        // when
+        TodoBulkDeleteResponse response = todoDeleteService.deleteTodosCreatedBetween(START, END);
+
+        // then
+        assertThat(response.getChunkCount()).isEqualTo(2);
+        assertThat(response.getDeletedCount()).isEqualTo(1_001);
+        assertThat(todoRepository.findIdsByCreatedAtBetween(START, END, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void 범위가_없거나_시작일이_종료일보다_늦으면_예외가_발생한다() {
+        assertThatThrownBy(() -> todoDeleteService.deleteTodosCreatedBetween(null, END))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> todoDeleteService.deleteTodosCreatedBetween(END, START))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private void updateCreatedAt(List<Long> todoIds, LocalDateTime createdAt) {
+        em.flush();
+        em.createQuery("UPDATE Todo t SET t.createdAt = :createdAt WHERE t.id IN :ids")
+                .setParameter("createdAt", createdAt)
+                .setParameter("ids", todoIds)
+                .executeUpdate();
+    }
+
+    private long countRows(String sql, Long todoId) {
+        return ((Number) em.createNativeQuery(sql).setParameter(1, todoId).getSingleResult()).longValue();
+    }
+}
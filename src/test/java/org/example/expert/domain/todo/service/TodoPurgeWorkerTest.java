@@ -0,0 +1,66 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoPurgeWorkerTest extends PersistenceTestSupport {
+
+    @Autowired
+    private TodoPurgeWorker todoPurgeWorker;
+
+    @Test
+    void 삭제_표시된_todo_와_그_댓글_담당자_행을_지우고_다른_todo_는_남긴다() {
+        // given: 댓글은 정리 청크(1000 건)보다 많이 저장
+        User owner = persistUser("purge-owner");
+        User member = persistUser("purge-member");
+        Todo deletedTodo = persistTodo(owner, "deleted");
+        Todo liveTodo = persistTodo(owner, "live");
+        persistManager(member, deletedTodo);
+        for (int i = 0; i < 1_001; i++) {
+            persistComment(member, deletedTodo, "comment" + i);
+        }
+        persistComment(member, liveTodo, "live-comment");
+        markDeleted(deletedTodo);
+
+        // when
+        todoPurgeWorker.purgeDeletedTodos();
+        em.clear();
+
+        // then
+        assertThat(countRows("todos", "id", deletedTodo.getId())).isZero();
+        assertThat(countRows("comments", "todo_id", deletedTodo.getId())).isZero();
+        assertThat(countRows("managers", "todo_id", deletedTodo.getId())).isZero();
+        assertThat(countRows("todos", "id", liveTodo.getId())).isEqualTo(1);
+        assertThat(countRows("comments", "todo_id", liveTodo.getId())).isEqualTo(1);
+        assertThat(countRows("managers", "todo_id", liveTodo.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void 삭제_표시된_todo_가_없으면_아무것도_지우지_않는다() {
+        // given
+        User owner = persistUser("purge-none");
+        Todo liveTodo = persistTodo(owner, "live");
+        persistComment(owner, liveTodo, "comment");
+        flushAndClear();
+
+        // when
+        todoPurgeWorker.purgeDeletedTodos();
+
+        // then
+        assertThat(countRows("todos", "id", liveTodo.getId())).isEqualTo(1);
+        assertThat(countRows("comments", "todo_id", liveTodo.getId())).isEqualTo(1);
+        assertThat(countRows("managers", "todo_id", liveTodo.getId())).isEqualTo(1);
+    }
+
+    // 삭제 표시된 행도 세도록 native 쿼리로 확인
+    private long countRows(String table, String column, Long todoId) {
+        return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?1")
+                .setParameter(1, todoId)
+                .getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoServiceCursorTest extends PersistenceTestSupport {
+
+    // 다른 테스트 데이터와 섞이지 않도록 날씨 조건으로 이 테스트의 todo 만 조회
+    private static final String WEATHER = "CursorTestWeather";
+
+    @Autowired
+    private TodoService todoService;
+
+    private final List<Long> expectedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = persistUser("cursor");
+
+        // modifiedAt 이 같은 todo 5 건과 더 이전 시각의 todo 2 건
+        LocalDateTime tied = LocalDateTime.of(2024, 9, 1, 12, 0);
+        List<Long> tiedIds = persistTodos(user, 5, tied);
+        List<Long> olderIds = persistTodos(user, 2, tied.minusDays(1));
+        flushAndClear();
+
+        // (modifiedAt DESC, id DESC) 순서
+        Collections.reverse(tiedIds);
+        Collections.reverse(olderIds);
+        expectedIds.addAll(tiedIds);
+        expectedIds.addAll(olderIds);
+    }
+
+    @Test
+    void modifiedAt_이_같은_todo_가_있어도_커서를_따라가면_중복_누락_없이_순서대로_조회된다() {
+        // given
+        List<Long> visitedIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // when
+        do {
+            CursorResponse<TodoResponse> response = todoService.getTodosByCursor(cursor, 2, WEATHER, null, null);
+            response.getContents().forEach(todo -> visitedIds.add(todo.getId()));
+            cursor = response.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(visitedIds).containsExactlyElementsOf(expectedIds);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void 남은_건수가_size_와_같으면_다음_페이지가_없다() {
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, expectedIds.size(), WEATHER, null, null);
+
+        // then
+        assertThat(response.getContents()).extracting(TodoResponse::getId).containsExactlyElementsOf(expectedIds);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 남은_건수가_size_보다_많으면_size_건만_반환하고_마지막_행을_커서로_준다() {
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, expectedIds.size() - 1, WEATHER, null, null);
+
+        // then
+        assertThat(response.getContents()).hasSize(expectedIds.size() - 1);
+        assertThat(response.isHasNext()).isTrue();
+
+        CursorResponse<TodoResponse> last = todoService.getTodosByCursor(response.getNextCursor(), 10, WEATHER, null, null);
+        assertThat(last.getContents()).extracting(TodoResponse::getId)
+                .containsExactly(expectedIds.get(expectedIds.size() - 1));
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    @Test
+    void size_가_1_보다_작으면_예외가_발생한다() {
+        assertThatThrownBy(() -> todoService.getTodosByCursor(null, 0, WEATHER, null, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private List<Long> persistTodos(User user, int count, LocalDateTime modifiedAt) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(persistTodo(user, "title" + i, WEATHER).getId());
+        }
+        updateModifiedAt(ids, modifiedAt);
+        return ids;
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.support;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * H2 에 직접 엔티티를 저장해 서비스/레포지토리를 검증하는 테스트의 공용 픽스처
+ * 테스트마다 트랜잭션이 롤백되므로 저장한 데이터는 다른 테스트에 남지 않는다.
+ **/
+@SpringBootTest
+@Transactional
+public abstract class PersistenceTestSupport {
+
+    @Autowired
+    protected EntityManager em;
+
+    protected User persistUser(String nickname) {
+        return persistUser(nickname, UserRole.ROLE_USER);
+    }
+
+    protected User persistUser(String nickname, UserRole userRole) {
+        User user = new User(nickname + "@test.com", "password", nickname, userRole);
+        em.persist(user);
+        return user;
+    }
+
+    // 작성자는 담당자로 함께 저장됨
+    protected Todo persistTodo(User user, String title) {
+        return persistTodo(user, title, "Sunny");
+    }
+
+    protected Todo persistTodo(User user, String title, String weather) {
+        Todo todo = new Todo(title, "contents", weather, user);
+        em.persist(todo);
+        return todo;
+    }
+
+    protected Comment persistComment(User user, Todo todo, String contents) {
+        Comment comment = new Comment(contents, user, todo);
+        em.persist(comment);
+        return comment;
+    }
+
+    protected Manager persistManager(User user, Todo todo) {
+        Manager manager = new Manager(user, todo);
+        em.persist(manager);
+        return manager;
+    }
+
+    // 이후 조회가 영속성 컨텍스트가 아닌 DB 에서 읽히도록 함
+    protected void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
+    // 삭제 API 와 같이 삭제 표시만 하고 자식 행은 남김
+    protected void markDeleted(Todo todo) {
+        em.flush();
+        em.createQuery("UPDATE Todo t SET t.deleted = true WHERE t.id = :id")
+                .setParameter("id", todo.getId())
+                .executeUpdate();
+        em.clear();
+    }
+
+    // 감사 필드는 저장 시각으로 채워지므로 직접 맞춤
+    protected void updateModifiedAt(List<Long> todoIds, LocalDateTime modifiedAt) {
+        em.flush();
+        em.createQuery("UPDATE Todo t SET t.modifiedAt = :modifiedAt WHERE t.id IN :ids")
+                .setParameter("modifiedAt", modifiedAt)
+                .setParameter("ids", todoIds)
+                .executeUpdate();
+    }
+}